@@ -0,0 +1,88 @@
+package com.caixa.invest.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compara um resultado JMH (-rf json) com a baseline gravada.
+ *
+ * Para cada benchmark (nome + parâmetros) presente nos dois arquivos imprime a
+ * variação percentual do score. Termina com código 1 se algum benchmark piorar
+ * mais do que a tolerância, considerando que em modo thrpt maior é melhor e nos
+ * demais modos (tempo) menor é melhor.
+ *
+ * Uso: BaselineComparator resultado.json baseline.json [toleranciaPercentual]
+ */
+public final class BaselineComparator {
+
+    private record Medida(String modo, double score, String unidade) {
+    }
+
+    private BaselineComparator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Uso: BaselineComparator resultado.json baseline.json [toleranciaPercentual]");
+            System.exit(2);
+        }
+
+        File baseline = new File(args[1]);
+        if (!baseline.exists()) {
+            System.out.println("Baseline " + baseline + " não encontrada; copie o resultado para criá-la.");
+            return;
+        }
+
+        Map<String, Medida> atual = ler(new File(args[0]));
+        Map<String, Medida> referencia = ler(baseline);
+        double tolerancia = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+
+        int regressoes = 0;
+        for (Map.Entry<String, Medida> entry : atual.entrySet()) {
+            Medida anterior = referencia.get(entry.getKey());
+            if (anterior == null) {
+                System.out.printf("%-80s %12.3f %s (novo)%n", entry.getKey(), entry.getValue().score(),
+                        entry.getValue().unidade());
+                continue;
+            }
+
+            Medida medida = entry.getValue();
+            double variacao = (medida.score() - anterior.score()) / anterior.score() * 100.0;
+            double piora = "thrpt".equals(medida.modo()) ? -variacao : variacao;
+            boolean regressao = piora > tolerancia;
+            if (regressao) {
+                regressoes++;
+            }
+            System.out.printf("%-80s %12.3f %s %+7.1f%%%s%n", entry.getKey(), medida.score(), medida.unidade(),
+                    variacao, regressao ? "  REGRESSÃO" : "");
+        }
+
+        if (regressoes > 0) {
+            System.out.printf("%d benchmark(s) pioraram mais de %.1f%% em relação à baseline%n", regressoes, tolerancia);
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Medida> ler(File arquivo) throws IOException {
+        Map<String, Medida> medidas = new LinkedHashMap<>();
+        for (JsonNode resultado : new ObjectMapper().readTree(arquivo)) {
+            StringBuilder chave = new StringBuilder(resultado.path("benchmark").asText());
+            Iterator<Map.Entry<String, JsonNode>> params = resultado.path("params").fields();
+            while (params.hasNext()) {
+                Map.Entry<String, JsonNode> param = params.next();
+                chave.append(chave.indexOf(":") < 0 ? ":" : ",").append(param.getKey()).append('=')
+                        .append(param.getValue().asText());
+            }
+            JsonNode metrica = resultado.path("primaryMetric");
+            medidas.put(chave.toString(), new Medida(resultado.path("mode").asText(),
+                    metrica.path("score").asDouble(), metrica.path("scoreUnit").asText()));
+        }
+        return medidas;
+    }
+}
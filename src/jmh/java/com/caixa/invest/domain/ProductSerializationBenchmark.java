@@ -0,0 +1,61 @@
+package com.caixa.invest.domain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização de listas de produtos com Jackson, como nas respostas de /api/products
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductSerializationBenchmark {
+
+    @Param({"8", "200"})
+    int quantidade;
+
+    private ObjectMapper objectMapper;
+    private List<Product> produtos;
+
+    @Setup
+    public void setup() {
+        objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        Product.TipoProduto[] tipos = Product.TipoProduto.values();
+        Product.NivelRisco[] riscos = Product.NivelRisco.values();
+        produtos = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            Product product = Product.builder()
+                    .nome("Produto " + i)
+                    .tipo(tipos[i % tipos.length])
+                    .rentabilidade(new BigDecimal("0.1").add(BigDecimal.valueOf(i, 4)))
+                    .risco(riscos[i % riscos.length])
+                    .prazoMinimoMeses(6)
+                    .prazoMaximoMeses(60)
+                    .valorMinimo(new BigDecimal("1000.00"))
+                    .valorMaximo(new BigDecimal("1000000.00"))
+                    .ativo(true)
+                    .liquidezDias(i % 90)
+                    .descricao("Produto de investimento " + i)
+                    .build();
+            product.id = (long) i + 1;
+            produtos.add(product);
+        }
+    }
+
+    @Benchmark
+    public byte[] serializarLista() throws Exception {
+        return objectMapper.writeValueAsBytes(produtos);
+    }
+}
@@ -0,0 +1,42 @@
+package com.caixa.invest.security;
+
+import com.caixa.invest.domain.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emissão de token JWT (RS256) no login
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider provider;
+    private User user;
+
+    @Setup
+    public void setup() {
+        provider = new JwtTokenProvider();
+        provider.expiration = 86400000L;
+        provider.keyLocation = "privateKey.pem";
+        provider.algorithm = "RS256";
+
+        user = User.builder()
+                .username("admin")
+                .email("admin@caixa.com")
+                .role(User.Role.ADMIN)
+                .enabled(true)
+                .build();
+        user.id = 1L;
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return provider.generateToken(user);
+    }
+}
@@ -0,0 +1,50 @@
+package com.caixa.invest.service;
+
+import com.caixa.invest.domain.Investment;
+import com.caixa.invest.domain.Product;
+import com.caixa.invest.dto.response.CarteiraResponse;
+import com.caixa.invest.dto.response.InvestimentoResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Marcação de uma carteira inteira (valor atual de cada posição e totais)
+ * a partir das linhas já lidas, sem banco de dados
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CarteiraBenchmark {
+
+    private static final String[] TAXAS = {"0.0617", "0.095", "0.10", "0.1075", "0.11", "0.12", "0.14", "0.18"};
+
+    @Param({"50", "500"})
+    int posicoes;
+
+    private final LocalDate hoje = LocalDate.of(2025, 6, 1);
+    private List<InvestimentoResponse> carteira;
+
+    @Setup
+    public void setup() {
+        Product.TipoProduto[] tipos = Product.TipoProduto.values();
+        carteira = new ArrayList<>(posicoes);
+        for (int i = 0; i < posicoes; i++) {
+            carteira.add(new InvestimentoResponse((long) i, tipos[i % tipos.length],
+                    new BigDecimal(1000 + i * 10).setScale(2), new BigDecimal(TAXAS[i % TAXAS.length]),
+                    hoje.minusDays(i * 7L % 3000), 12 + i % 48, Investment.StatusInvestimento.ATIVO));
+        }
+    }
+
+    @Benchmark
+    public CarteiraResponse avaliar() {
+        return CarteiraService.avaliar(1L, carteira, hoje);
+    }
+}
@@ -0,0 +1,52 @@
+package com.caixa.invest.service;
+
+import com.caixa.invest.domain.Client;
+import com.caixa.invest.domain.Product;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Atualização incremental do perfil de risco em uma aplicação (agregados,
+ * preferência, pontuação e classificação), sem banco de dados
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RiskScorerBenchmark {
+
+    private final RiskScorer scorer = new RiskScorer();
+    private final BigDecimal valor = new BigDecimal("2500.00");
+    private Client client;
+
+    @Setup
+    public void setup() {
+        scorer.pesoVolume = 40;
+        scorer.pesoFrequencia = 30;
+        scorer.pesoPreferencia = 30;
+        client = Client.builder()
+                .volumeTotalInvestido(new BigDecimal("45000.00"))
+                .frequenciaMovimentacoes(5)
+                .volumeConservador(new BigDecimal("30000.00"))
+                .volumeModerado(new BigDecimal("10000.00"))
+                .volumeAgressivo(new BigDecimal("5000.00"))
+                .preferenciaInvestimento(Client.PreferenciaInvestimento.EQUILIBRADO)
+                .build();
+    }
+
+    @Benchmark
+    public Integer aplicacaoEResgate() {
+        scorer.registrarAplicacao(client, Product.TipoProduto.FUNDO_ACOES, valor);
+        scorer.registrarResgate(client, Product.TipoProduto.FUNDO_ACOES, valor);
+        return client.getPontuacaoRisco();
+    }
+
+    @Benchmark
+    public int pontuar() {
+        return scorer.pontuar(client.getVolumeTotalInvestido(), 5, RiskScorer.Categoria.MODERADO);
+    }
+}
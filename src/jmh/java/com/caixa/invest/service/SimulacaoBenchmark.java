@@ -0,0 +1,66 @@
+package com.caixa.invest.service;
+
+import com.caixa.invest.domain.Product;
+import com.caixa.invest.dto.response.SimulacaoResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Montagem do SimulacaoResponse a partir do produto já selecionado
+ * (cálculo pela tabela de fatores, IR e DTOs), sem banco de dados
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimulacaoBenchmark {
+
+    @Param({"6", "12", "36"})
+    int prazoMeses;
+
+    private final SimulacaoService service = new SimulacaoService();
+    private final BigDecimal valor = new BigDecimal("10000.00");
+    private Product cdb;
+    private Product lci;
+
+    @Setup
+    public void setup() {
+        cdb = produto(1L, "CDB Caixa 2026", Product.TipoProduto.CDB, "0.12");
+        lci = produto(2L, "LCI Caixa", Product.TipoProduto.LCI, "0.10");
+    }
+
+    @Benchmark
+    public SimulacaoResponse simulacaoResponse() {
+        return SimulacaoResponse.builder()
+                .produtoValidado(SimulacaoService.validado(cdb))
+                .resultadoSimulacao(service.calcular(cdb, valor, prazoMeses))
+                .dataSimulacao(LocalDateTime.now())
+                .build();
+    }
+
+    @Benchmark
+    public SimulacaoResponse.ResultadoSimulacao calcularIsentoIr() {
+        return service.calcular(lci, valor, prazoMeses);
+    }
+
+    private static Product produto(Long id, String nome, Product.TipoProduto tipo, String rentabilidade) {
+        Product product = Product.builder()
+                .nome(nome)
+                .tipo(tipo)
+                .rentabilidade(new BigDecimal(rentabilidade))
+                .risco(Product.NivelRisco.BAIXO)
+                .prazoMinimoMeses(1)
+                .prazoMaximoMeses(60)
+                .valorMinimo(new BigDecimal("100.00"))
+                .valorMaximo(new BigDecimal("1000000.00"))
+                .ativo(true)
+                .build();
+        product.id = id;
+        return product;
+    }
+}
@@ -1,19 +1,78 @@
 package com.caixa.invest;
 
+import com.caixa.invest.dto.response.ImportacaoResponse;
+import com.caixa.invest.service.ImportacaoService;
 import io.quarkus.runtime.Quarkus;
 import io.quarkus.runtime.QuarkusApplication;
 import io.quarkus.runtime.annotations.QuarkusMain;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 @QuarkusMain
 public class PainelInvestimentosApplication implements QuarkusApplication {
 
+    private static final Logger LOG = Logger.getLogger(PainelInvestimentosApplication.class);
+
+    /**
+     * Perfil de configuração do modo importar: sem recriação do schema, sem HTTP e sem agendador
+     */
+    static final String PERFIL_IMPORTACAO = "importacao";
+
+    @Inject
+    ImportacaoService importacaoService;
+
     public static void main(String... args) {
+        if (args.length > 0 && "importar".equals(args[0])) {
+            String perfil = System.getProperty("quarkus.profile", "prod");
+            System.setProperty("quarkus.profile", perfil + "," + PERFIL_IMPORTACAO);
+        }
         Quarkus.run(PainelInvestimentosApplication.class, args);
     }
 
     @Override
     public int run(String... args) throws Exception {
+        if (args.length > 0 && "importar".equals(args[0])) {
+            return importar(args);
+        }
         Quarkus.waitForExit();
         return 0;
     }
+
+    /**
+     * Modo linha de comando: importar &lt;clientes|produtos|investimentos&gt; &lt;arquivo.csv|arquivo.ndjson&gt;.
+     * Roda com o perfil {@value #PERFIL_IMPORTACAO}, que preserva o banco e não
+     * abre a porta HTTP nem dispara os jobs agendados. Termina com 0 se todas as linhas foram importadas, 1 se houve linhas rejeitadas e 2 em erro de uso.
+     */
+    private int importar(String... args) throws Exception {
+        if (args.length != 3) {
+            LOG.error("Uso: importar <clientes|produtos|investimentos> <arquivo.csv|arquivo.ndjson>");
+            return 2;
+        }
+
+        ImportacaoService.Entidade entidade;
+        ImportacaoService.Formato formato;
+        Path arquivo = Path.of(args[2]);
+        try {
+            entidade = ImportacaoService.Entidade.de(args[1]);
+            formato = ImportacaoService.Formato.deArquivo(arquivo.getFileName().toString());
+        } catch (IllegalArgumentException e) {
+            LOG.error(e.getMessage());
+            return 2;
+        }
+
+        try (InputStream entrada = Files.newInputStream(arquivo)) {
+            ImportacaoResponse relatorio = importacaoService.importar(entidade, formato, entrada);
+            relatorio.getErros().forEach(erro -> LOG.warnf("Linha %d: %s", erro.getLinha(), erro.getMensagem()));
+            if (entidade == ImportacaoService.Entidade.PRODUTOS && relatorio.getImportadas() > 0) {
+                LOG.infof("%d produtos importados; a aplicação em execução os recebe na próxima recarga do catálogo "
+                        + "(produtos.catalogo.recarga.intervalo) ou com POST /api/products/recarregar",
+                        relatorio.getImportadas());
+            }
+            return relatorio.getRejeitadas() == 0 ? 0 : 1;
+        }
+    }
 }
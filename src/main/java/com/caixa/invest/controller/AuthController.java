@@ -3,13 +3,23 @@ package com.caixa.invest.controller;
 import com.caixa.invest.domain.User;
 import com.caixa.invest.dto.request.LoginRequest;
 import com.caixa.invest.dto.response.AuthResponse;
+import com.caixa.invest.security.CachingJWTParser;
 import com.caixa.invest.security.JwtTokenProvider;
 import com.caixa.invest.service.AuthService;
+import io.quarkus.security.Authenticated;
+import io.smallrye.common.annotation.Blocking;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
 
 @Path("/auth")
 @Produces(MediaType.APPLICATION_JSON)
@@ -22,26 +32,65 @@ public class AuthController {
     @Inject
     JwtTokenProvider tokenProvider;
 
+    @Inject
+    CachingJWTParser jwtParser;
+
+    @Inject
+    JsonWebToken jwt;
+
+    @ConfigProperty(name = "auth.hashing.retry-after-segundos", defaultValue = "1")
+    int retryAfterSegundos;
+
+    /**
+     * Login. A verificação da senha roda no pool de hashing; a thread da
+     * requisição fica livre até a resposta. Com o pool saturado responde 503.
+     */
     @POST
     @Path("/login")
-    public Response login(@Valid LoginRequest request) {
-        try {
-            User user = authService.authenticate(request.getUsername(), request.getPassword());
-            String token = tokenProvider.generateToken(user);
-
-            AuthResponse response = AuthResponse.builder()
-                    .token(token)
-                    .type("Bearer")
-                    .username(user.getUsername())
-                    .role("ROLE_" + user.getRole().name())
-                    .build();
+    @Blocking
+    public CompletionStage<Response> login(@Valid LoginRequest request) {
+        return authService.authenticateAsync(request.getUsername(), request.getPassword())
+                .thenApply(user -> Response.ok(authResponse(user)).build())
+                .exceptionally(this::erro);
+    }
+
+    /**
+     * Logout: revoga o token usado na requisição até o seu vencimento
+     */
+    @POST
+    @Path("/logout")
+    @Authenticated
+    public Response logout() {
+        jwtParser.revogar(jwt);
+        return Response.noContent().build();
+    }
+
+    private AuthResponse authResponse(User user) {
+        return AuthResponse.builder()
+                .token(tokenProvider.generateToken(user))
+                .type("Bearer")
+                .username(user.getUsername())
+                .role("ROLE_" + user.getRole().name())
+                .build();
+    }
+
+    private Response erro(Throwable erro) {
+        Throwable causa = erro instanceof CompletionException && erro.getCause() != null ? erro.getCause() : erro;
 
-            return Response.ok(response).build();
-        } catch (SecurityException e) {
+        if (causa instanceof SecurityException) {
             return Response.status(Response.Status.UNAUTHORIZED)
-                    .entity(new ErrorResponse(e.getMessage()))
+                    .entity(new ErrorResponse(causa.getMessage()))
                     .build();
         }
+
+        if (causa instanceof RejectedExecutionException) {
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, retryAfterSegundos)
+                    .entity(new ErrorResponse("Serviço de autenticação sobrecarregado, tente novamente"))
+                    .build();
+        }
+
+        throw causa instanceof RuntimeException runtime ? runtime : new CompletionException(causa);
     }
 
     public static class ErrorResponse {
@@ -0,0 +1,92 @@
+package com.caixa.invest.controller;
+
+import com.caixa.invest.service.ExportacaoService;
+import io.quarkus.security.Authenticated;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.concurrent.RejectedExecutionException;
+
+@Path("/v1/exportacao")
+@Authenticated
+public class ExportacaoController {
+
+    private static final String APPLICATION_GZIP = "application/gzip";
+
+    @Inject
+    ExportacaoService exportacaoService;
+
+    @ConfigProperty(name = "exportacao.retry-after-segundos", defaultValue = "30")
+    int retryAfterSegundos;
+
+    /**
+     * Exporta todas as simulações ou medições de telemetria do período em CSV
+     * ou NDJSON comprimido com gzip, transmitido à medida que é lido do banco.
+     * A vaga de exportação é devolvida quando a resposta termina ou falha,
+     * mesmo que o corpo não chegue a ser escrito.
+     */
+    @GET
+    @Path("/{tabela}")
+    @Produces(APPLICATION_GZIP)
+    @RolesAllowed("ADMIN")
+    public Response exportar(
+            @PathParam("tabela") String tabela,
+            @QueryParam("dataInicio") LocalDate dataInicio,
+            @QueryParam("dataFim") LocalDate dataFim,
+            @QueryParam("formato") @DefaultValue("csv") String formato,
+            @Context RoutingContext routingContext) {
+
+        if (dataInicio == null || dataFim == null) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity("dataInicio e dataFim são obrigatórios")
+                    .build();
+        }
+
+        if (dataFim.isBefore(dataInicio)) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity("dataFim deve ser maior ou igual a dataInicio")
+                    .build();
+        }
+
+        ExportacaoService.Tabela origem;
+        ExportacaoService.Formato saida;
+        try {
+            origem = ExportacaoService.Tabela.de(tabela);
+            saida = ExportacaoService.Formato.de(formato);
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(e.getMessage())
+                    .build();
+        }
+
+        ExportacaoService.Exportacao body;
+        try {
+            body = exportacaoService.exportar(origem, saida, dataInicio, dataFim);
+        } catch (RejectedExecutionException e) {
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, retryAfterSegundos)
+                    .entity(e.getMessage())
+                    .build();
+        }
+        routingContext.addEndHandler(fim -> body.liberar());
+
+        String arquivo = origem.name().toLowerCase(Locale.ROOT) + "-" + dataInicio + "-" + dataFim
+                + "." + saida.extensao() + ".gz";
+        return Response.ok(body, APPLICATION_GZIP)
+                .header("Content-Disposition", "attachment; filename=\"" + arquivo + "\"")
+                .build();
+    }
+}
@@ -0,0 +1,63 @@
+package com.caixa.invest.controller;
+
+import com.caixa.invest.service.ImportacaoService;
+import io.quarkus.security.Authenticated;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@Path("/v1/importacao")
+@Produces(MediaType.APPLICATION_JSON)
+@Authenticated
+public class ImportacaoController {
+
+    private static final String TEXT_CSV = "text/csv";
+
+    private static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    @Inject
+    ImportacaoService importacaoService;
+
+    /**
+     * Importa clientes, produtos ou investimentos de um CSV (com cabeçalho) ou
+     * NDJSON enviado no corpo, lido em streaming. Linhas inválidas são
+     * rejeitadas e listadas no relatório sem interromper a carga.
+     *
+     * A carga roda na própria requisição, ocupando uma worker thread até o
+     * fim, e o corpo está sujeito a quarkus.http.limits.max-body-size; cargas
+     * de vários GB vão pelo comando importar.
+     */
+    @POST
+    @Path("/{entidade}")
+    @Consumes({TEXT_CSV, APPLICATION_NDJSON})
+    @RolesAllowed("ADMIN")
+    public Response importar(
+            @PathParam("entidade") String entidade,
+            @HeaderParam(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream corpo) throws IOException {
+
+        ImportacaoService.Entidade destino;
+        ImportacaoService.Formato formato;
+        try {
+            destino = ImportacaoService.Entidade.de(entidade);
+            formato = ImportacaoService.Formato.deMediaType(contentType);
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(e.getMessage())
+                    .build();
+        }
+
+        return Response.ok(importacaoService.importar(destino, formato, corpo)).build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.caixa.invest.controller;
+
+import com.caixa.invest.dto.request.InvestimentoRequest;
+import com.caixa.invest.dto.response.InvestimentoResponse;
+import com.caixa.invest.service.CarteiraService;
+import com.caixa.invest.service.InvestimentoService;
+import io.quarkus.security.Authenticated;
+import jakarta.inject.Inject;
+import jakarta.validation.Valid;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import java.util.NoSuchElementException;
+
+@Path("/v1/investimentos")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@Authenticated
+public class InvestimentoController {
+
+    @Inject
+    InvestimentoService investimentoService;
+
+    @Inject
+    CarteiraService carteiraService;
+
+    /**
+     * Histórico de investimentos do cliente; os ativos trazem o valor atual
+     */
+    @GET
+    @Path("/{clienteId}")
+    public Response historico(@PathParam("clienteId") Long clienteId) {
+        return Response.ok(carteiraService.historico(clienteId)).build();
+    }
+
+    /**
+     * Investimentos ativos do cliente marcados na data de hoje, com os totais da carteira
+     */
+    @GET
+    @Path("/{clienteId}/carteira")
+    public Response carteira(@PathParam("clienteId") Long clienteId) {
+        return Response.ok(carteiraService.carteira(clienteId)).build();
+    }
+
+    /**
+     * Registra uma aplicação e atualiza o perfil de risco do cliente
+     */
+    @POST
+    public Response investir(@Valid InvestimentoRequest request) {
+        try {
+            InvestimentoResponse investimento = investimentoService.investir(request);
+            return Response.status(Response.Status.CREATED)
+                    .entity(investimento)
+                    .build();
+        } catch (NoSuchElementException e) {
+            return Response.status(Response.Status.NOT_FOUND)
+                    .entity(e.getMessage())
+                    .build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(e.getMessage())
+                    .build();
+        }
+    }
+
+    /**
+     * Resgata um investimento ativo e atualiza o perfil de risco do cliente
+     */
+    @POST
+    @Path("/{id}/resgate")
+    public Response resgatar(@PathParam("id") Long id) {
+        try {
+            return Response.ok(investimentoService.resgatar(id)).build();
+        } catch (NoSuchElementException e) {
+            return Response.status(Response.Status.NOT_FOUND)
+                    .entity(e.getMessage())
+                    .build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(e.getMessage())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.caixa.invest.controller;
+
+import com.caixa.invest.service.PerfilRiscoService;
+import com.caixa.invest.service.RiskRescoringJob;
+import io.quarkus.security.Authenticated;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import java.util.NoSuchElementException;
+
+@Path("/v1/perfil-risco")
+@Produces(MediaType.APPLICATION_JSON)
+@Authenticated
+public class PerfilRiscoController {
+
+    @Inject
+    PerfilRiscoService perfilRiscoService;
+
+    @Inject
+    RiskRescoringJob rescoringJob;
+
+    /**
+     * Perfil de risco e pontuação atuais do cliente
+     */
+    @GET
+    @Path("/{clienteId}")
+    public Response perfil(@PathParam("clienteId") Long clienteId) {
+        try {
+            return Response.ok(perfilRiscoService.buscar(clienteId)).build();
+        } catch (NoSuchElementException e) {
+            return Response.status(Response.Status.NOT_FOUND)
+                    .entity(e.getMessage())
+                    .build();
+        }
+    }
+
+    /**
+     * Dispara em segundo plano o recálculo da pontuação de todos os clientes
+     * (após mudança dos pesos). Um recálculo interrompido é retomado do último lote.
+     */
+    @POST
+    @Path("/recalcular")
+    @RolesAllowed("ADMIN")
+    public Response recalcular() {
+        if (!rescoringJob.iniciar()) {
+            return Response.status(Response.Status.CONFLICT)
+                    .entity("Recálculo de perfis de risco já em execução")
+                    .build();
+        }
+        return Response.accepted().build();
+    }
+}
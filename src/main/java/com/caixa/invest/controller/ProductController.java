@@ -1,15 +1,23 @@
 package com.caixa.invest.controller;
 
 import com.caixa.invest.domain.Product;
+import com.caixa.invest.dto.request.ProductRequest;
 import com.caixa.invest.dto.response.PaginatedResponse;
+import com.caixa.invest.service.ProductJsonCache;
 import com.caixa.invest.service.ProductService;
 import io.quarkus.security.Authenticated;
+import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
+import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
+import java.net.URI;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 
 @Path("/api/products")
 @Produces(MediaType.APPLICATION_JSON)
@@ -17,27 +25,35 @@ import java.util.List;
 @Authenticated
 public class ProductController {
 
+    public static final String HEADER_PROXIMO_CURSOR = "X-Proximo-Cursor";
+
     @Inject
     ProductService productService;
 
+    @Inject
+    ProductJsonCache jsonCache;
+
     /**
-     * Lista todos os produtos ativos (com cache)
+     * Lista todos os produtos ativos (JSON pré-serializado, com ETag)
      */
     @GET
     @Path("/all")
-    public Response listAll() {
-        List<Product> products = productService.findAllActive();
-        return Response.ok(products).build();
+    public Response listAll(@HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
+        return json(jsonCache.todos(), ifNoneMatch);
     }
 
     /**
-     * Lista produtos com paginação
+     * Lista produtos com paginação, por número de página ou por cursor
+     * (after = id do último produto recebido). Quando a página vem cheia o
+     * cursor da próxima vem no header X-Proximo-Cursor.
      */
     @GET
     public Response list(
             @QueryParam("page") @DefaultValue("0") int page,
             
-            @QueryParam("size") @DefaultValue("10") int size) {
+            @QueryParam("size") @DefaultValue("10") int size,
+
+            @QueryParam("after") Long after) {
         
         if (page < 0) {
             return Response.status(Response.Status.BAD_REQUEST)
@@ -51,40 +67,50 @@ public class ProductController {
                     .build();
         }
 
-        List<Product> products = productService.findAllActivePaginated(page, size);
+        List<Product> products;
+        if (after != null) {
+            products = productService.findAllActiveAfter(after, size);
+            page = (int) (productService.countActiveUpTo(after) / size);
+        } else {
+            products = productService.findAllActivePaginated(page, size);
+        }
         long total = productService.countActive();
         
         PaginatedResponse<Product> response = PaginatedResponse.of(products, page, size, total);
         
-        return Response.ok(response).build();
+        Response.ResponseBuilder builder = Response.ok(response);
+        if (products.size() == size) {
+            builder.header(HEADER_PROXIMO_CURSOR, products.get(products.size() - 1).id);
+        }
+        return builder.build();
     }
 
     /**
-     * Busca produtos por tipo (com cache)
+     * Busca produtos por tipo (JSON pré-serializado, com ETag)
      */
     @GET
     @Path("/tipo/{tipo}")
     public Response findByType(
-            @PathParam("tipo") Product.TipoProduto tipo) {
+            @PathParam("tipo") Product.TipoProduto tipo,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
         
-        List<Product> products = productService.findByType(tipo);
-        return Response.ok(products).build();
+        return json(jsonCache.porTipo(tipo), ifNoneMatch);
     }
 
     /**
-     * Busca produtos por nível de risco (com cache)
+     * Busca produtos por nível de risco (JSON pré-serializado, com ETag)
      */
     @GET
     @Path("/risco/{risco}")
     public Response findByRisk(
-            @PathParam("risco") Product.NivelRisco risco) {
+            @PathParam("risco") Product.NivelRisco risco,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
         
-        List<Product> products = productService.findByRisk(risco);
-        return Response.ok(products).build();
+        return json(jsonCache.porRisco(risco), ifNoneMatch);
     }
 
     /**
-     * Busca produto por ID (com cache)
+     * Busca produto por ID (catálogo em memória)
      */
     @GET
     @Path("/{id}")
@@ -101,4 +127,89 @@ public class ProductController {
         
         return Response.ok(product).build();
     }
+
+    /**
+     * Cadastra um produto
+     */
+    @POST
+    @RolesAllowed("ADMIN")
+    public Response create(@Valid ProductRequest request) {
+        try {
+            Product product = productService.create(request);
+            return Response.created(URI.create("/api/products/" + product.id))
+                    .entity(product)
+                    .build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(e.getMessage())
+                    .build();
+        }
+    }
+
+    /**
+     * Atualiza um produto
+     */
+    @PUT
+    @Path("/{id}")
+    @RolesAllowed("ADMIN")
+    public Response update(
+            @PathParam("id") Long id,
+            @Valid ProductRequest request) {
+
+        try {
+            return Response.ok(productService.update(id, request)).build();
+        } catch (NoSuchElementException e) {
+            return Response.status(Response.Status.NOT_FOUND)
+                    .entity(e.getMessage())
+                    .build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(e.getMessage())
+                    .build();
+        }
+    }
+
+    /**
+     * Relê o catálogo de produtos em memória desta instância a partir do banco
+     * (alterações feitas por outras instâncias, pela importação na linha de
+     * comando ou direto no banco)
+     */
+    @POST
+    @Path("/recarregar")
+    @RolesAllowed("ADMIN")
+    public Response reload() {
+        return Response.ok(Map.of("versao", productService.recarregarCatalogo())).build();
+    }
+
+    /**
+     * Desativa um produto
+     */
+    @DELETE
+    @Path("/{id}")
+    @RolesAllowed("ADMIN")
+    public Response deactivate(@PathParam("id") Long id) {
+        try {
+            productService.deactivate(id);
+            return Response.noContent().build();
+        } catch (NoSuchElementException e) {
+            return Response.status(Response.Status.NOT_FOUND)
+                    .entity(e.getMessage())
+                    .build();
+        }
+    }
+
+    /**
+     * Responde 304 quando o cliente já tem o conteúdo atual; caso contrário
+     * devolve os bytes prontos
+     */
+    private static Response json(ProductJsonCache.Renderizado renderizado, String ifNoneMatch) {
+        if (renderizado.corresponde(ifNoneMatch)) {
+            return Response.notModified()
+                    .header(HttpHeaders.ETAG, renderizado.etag())
+                    .build();
+        }
+        return Response.ok(renderizado.json(), MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.ETAG, renderizado.etag())
+                .build();
+    }
 }
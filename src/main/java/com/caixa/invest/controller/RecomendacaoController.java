@@ -0,0 +1,53 @@
+package com.caixa.invest.controller;
+
+import com.caixa.invest.domain.Client;
+import com.caixa.invest.service.ProductJsonCache;
+import com.caixa.invest.service.RecomendacaoService;
+import io.quarkus.security.Authenticated;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+@Path("/v1/produtos-recomendados")
+@Produces(MediaType.APPLICATION_JSON)
+@Authenticated
+public class RecomendacaoController {
+
+    @Inject
+    RecomendacaoService recomendacaoService;
+
+    /**
+     * Produtos recomendados para o perfil (JSON pré-serializado, com ETag)
+     */
+    @GET
+    @Path("/{perfil}")
+    public Response recomendados(
+            @PathParam("perfil") String perfil,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
+
+        Client.PerfilRisco perfilRisco;
+        try {
+            perfilRisco = Client.PerfilRisco.valueOf(perfil.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity("Perfil inválido: " + perfil)
+                    .build();
+        }
+
+        ProductJsonCache.Renderizado renderizado = recomendacaoService.recomendados(perfilRisco);
+        if (renderizado.corresponde(ifNoneMatch)) {
+            return Response.notModified()
+                    .header(HttpHeaders.ETAG, renderizado.etag())
+                    .build();
+        }
+        return Response.ok(renderizado.json(), MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.ETAG, renderizado.etag())
+                .build();
+    }
+}
@@ -0,0 +1,203 @@
+package com.caixa.invest.controller;
+
+import com.caixa.invest.dto.request.SimulacaoRequest;
+import com.caixa.invest.dto.response.SimulacaoHistoricoResponse;
+import com.caixa.invest.dto.response.SimulacaoResponse;
+import com.caixa.invest.service.SimulacaoHistoricoService;
+import com.caixa.invest.service.SimulacaoService;
+import com.caixa.invest.service.SimulationRollupService;
+import io.quarkus.security.Authenticated;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+@Path("/v1")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@Authenticated
+public class SimulacaoController {
+
+    public static final String HEADER_PROXIMO_CURSOR = "X-Proximo-Cursor";
+
+    private static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    @Inject
+    SimulacaoService simulacaoService;
+
+    @Inject
+    SimulacaoHistoricoService historicoService;
+
+    @Inject
+    SimulationRollupService rollupService;
+
+    @ConfigProperty(name = "simulacao.lote.tamanho-maximo", defaultValue = "200")
+    int tamanhoMaximoLote;
+
+    /**
+     * Simula um investimento para o produto elegível do tipo solicitado
+     */
+    @POST
+    @Path("/simular-investimento")
+    public Response simular(@Valid SimulacaoRequest request) {
+        try {
+            SimulacaoResponse response = simulacaoService.simular(request);
+            return Response.ok(response).build();
+        } catch (NoSuchElementException e) {
+            return Response.status(Response.Status.NOT_FOUND)
+                    .entity(e.getMessage())
+                    .build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(e.getMessage())
+                    .build();
+        }
+    }
+
+    /**
+     * Simula vários investimentos em uma única chamada (grades de comparação).
+     * Os resultados são devolvidos na mesma ordem dos itens enviados.
+     */
+    @POST
+    @Path("/simular-investimento/lote")
+    public Response simularLote(@Valid @NotEmpty List<@Valid SimulacaoRequest> requests) {
+        if (requests.size() > tamanhoMaximoLote) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity("Lote deve ter no máximo " + tamanhoMaximoLote + " itens")
+                    .build();
+        }
+
+        try {
+            List<SimulacaoResponse> response = simulacaoService.simularLote(requests);
+            return Response.ok(response).build();
+        } catch (NoSuchElementException e) {
+            return Response.status(Response.Status.NOT_FOUND)
+                    .entity(e.getMessage())
+                    .build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(e.getMessage())
+                    .build();
+        }
+    }
+
+    /**
+     * Histórico de simulações do cliente, mais recentes primeiro, paginado por cursor.
+     * Quando houver mais páginas o cursor da próxima vem no header X-Proximo-Cursor.
+     */
+    @GET
+    @Path("/simulacoes")
+    public Response historico(
+            @QueryParam("clienteId") Long clienteId,
+            @QueryParam("cursor") String cursor,
+            @QueryParam("limite") @DefaultValue("50") int limite) {
+
+        if (clienteId == null) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity("clienteId é obrigatório")
+                    .build();
+        }
+
+        if (limite < 1 || limite > 500) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity("Limite deve estar entre 1 e 500")
+                    .build();
+        }
+
+        try {
+            SimulacaoHistoricoService.Cursor apos =
+                    cursor == null || cursor.isBlank() ? null : SimulacaoHistoricoService.Cursor.decodificar(cursor);
+            List<SimulacaoHistoricoResponse> simulacoes = historicoService.listar(clienteId, apos, limite);
+
+            Response.ResponseBuilder response = Response.ok(simulacoes);
+            if (simulacoes.size() == limite) {
+                response.header(HEADER_PROXIMO_CURSOR,
+                        SimulacaoHistoricoService.Cursor.de(simulacoes.get(simulacoes.size() - 1)).codificar());
+            }
+            return response.build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(e.getMessage())
+                    .build();
+        }
+    }
+
+    /**
+     * Histórico completo do cliente em NDJSON, transmitido à medida que é lido do banco
+     */
+    @GET
+    @Path("/simulacoes/stream")
+    @Produces(APPLICATION_NDJSON)
+    public Response historicoStream(@QueryParam("clienteId") Long clienteId) {
+        if (clienteId == null) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity("clienteId é obrigatório")
+                    .build();
+        }
+
+        StreamingOutput body = out -> historicoService.stream(clienteId, out);
+        return Response.ok(body, APPLICATION_NDJSON).build();
+    }
+
+    /**
+     * Quantidade e média de valor final das simulações por produto e dia,
+     * lidas do consolidado diário
+     */
+    @GET
+    @Path("/simulacoes/por-produto-dia")
+    public Response porProdutoDia(
+            @QueryParam("dataInicio") LocalDate dataInicio,
+            @QueryParam("dataFim") LocalDate dataFim) {
+
+        Response invalido = validarPeriodo(dataInicio, dataFim);
+        if (invalido != null) {
+            return invalido;
+        }
+
+        return Response.ok(rollupService.porProdutoDia(dataInicio, dataFim)).build();
+    }
+
+    /**
+     * Reconstrói o consolidado diário do período a partir das simulações gravadas
+     */
+    @POST
+    @Path("/simulacoes/por-produto-dia/reconstruir")
+    @RolesAllowed("ADMIN")
+    public Response reconstruirPorProdutoDia(
+            @QueryParam("dataInicio") LocalDate dataInicio,
+            @QueryParam("dataFim") LocalDate dataFim) {
+
+        Response invalido = validarPeriodo(dataInicio, dataFim);
+        if (invalido != null) {
+            return invalido;
+        }
+
+        int linhas = rollupService.reconstruir(dataInicio, dataFim);
+        return Response.ok(Map.of("linhas", linhas)).build();
+    }
+
+    private static Response validarPeriodo(LocalDate dataInicio, LocalDate dataFim) {
+        if (dataInicio == null || dataFim == null) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity("dataInicio e dataFim são obrigatórios")
+                    .build();
+        }
+
+        if (dataFim.isBefore(dataInicio)) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity("dataFim deve ser maior ou igual a dataInicio")
+                    .build();
+        }
+        return null;
+    }
+}
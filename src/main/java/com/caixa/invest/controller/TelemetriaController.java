@@ -0,0 +1,47 @@
+package com.caixa.invest.controller;
+
+import com.caixa.invest.service.TelemetriaService;
+import io.quarkus.security.Authenticated;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import java.time.LocalDate;
+
+@Path("/v1/telemetria")
+@Produces(MediaType.APPLICATION_JSON)
+@Authenticated
+public class TelemetriaController {
+
+    @Inject
+    TelemetriaService telemetriaService;
+
+    /**
+     * Quantidade de chamadas e tempos de resposta por serviço da API no
+     * período: média, p50, p95, p99 e máximo, a partir dos histogramas de
+     * latência por minuto
+     */
+    @GET
+    public Response telemetria(
+            @QueryParam("inicio") LocalDate inicio,
+            @QueryParam("fim") LocalDate fim) {
+
+        if (inicio == null || fim == null) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity("inicio e fim são obrigatórios")
+                    .build();
+        }
+
+        if (fim.isBefore(inicio)) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity("fim deve ser maior ou igual a inicio")
+                    .build();
+        }
+
+        return Response.ok(telemetriaService.consultar(inicio, fim)).build();
+    }
+}
@@ -48,12 +48,29 @@ public class Client extends PanacheEntity {
     @Column(name = "pontuacao_risco")
     private Integer pontuacaoRisco;
 
+    /**
+     * Volume ativo por categoria de produto, mantido a cada aplicação e resgate
+     * para derivar a preferência de investimento sem reler os investimentos
+     */
+    @Column(name = "volume_conservador")
+    private BigDecimal volumeConservador;
+
+    @Column(name = "volume_moderado")
+    private BigDecimal volumeModerado;
+
+    @Column(name = "volume_agressivo")
+    private BigDecimal volumeAgressivo;
+
     @OneToMany(mappedBy = "client", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @Builder.Default
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<Investment> investments = new ArrayList<>();
 
     @OneToMany(mappedBy = "client", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @Builder.Default
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<Simulation> simulations = new ArrayList<>();
 
     @Generated("JPA")
@@ -66,6 +83,15 @@ public class Client extends PanacheEntity {
         if (this.frequenciaMovimentacoes == null) {
             this.frequenciaMovimentacoes = 0;
         }
+        if (this.volumeConservador == null) {
+            this.volumeConservador = BigDecimal.ZERO;
+        }
+        if (this.volumeModerado == null) {
+            this.volumeModerado = BigDecimal.ZERO;
+        }
+        if (this.volumeAgressivo == null) {
+            this.volumeAgressivo = BigDecimal.ZERO;
+        }
     }
 
     public enum PreferenciaInvestimento {
@@ -4,11 +4,15 @@ import io.quarkus.hibernate.orm.panache.PanacheEntity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import javax.annotation.processing.Generated;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "investments")
+@Table(name = "investments", indexes = {
+        @Index(name = "idx_investments_client_status", columnList = "client_id, status"),
+        @Index(name = "idx_investments_status_vencimento", columnList = "status, data_vencimento")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -18,6 +22,8 @@ public class Investment extends PanacheEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "client_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Client client;
 
     @Enumerated(EnumType.STRING)
@@ -42,10 +48,23 @@ public class Investment extends PanacheEntity {
     @Column(name = "data_resgate")
     private LocalDate dataResgate;
 
+    /**
+     * data + prazoMeses, gravada para que o job de vencimento use o índice (status, data_vencimento)
+     */
+    @Column(name = "data_vencimento")
+    private LocalDate dataVencimento;
+
     public enum StatusInvestimento {
         ATIVO,
         RESGATADO,
         VENCIDO
     }
-}
 
+    @Generated("JPA")
+    @PrePersist
+    public void prePersist() {
+        if (this.dataVencimento == null && this.data != null && this.prazoMeses != null) {
+            this.dataVencimento = this.data.plusMonths(this.prazoMeses);
+        }
+    }
+}
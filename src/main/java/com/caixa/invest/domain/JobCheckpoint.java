@@ -0,0 +1,41 @@
+package com.caixa.invest.domain;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Posição de um job em lotes: último id processado, gravado na mesma transação
+ * de cada lote, para que o job retome do ponto em que parou
+ */
+@Entity
+@Table(name = "job_checkpoints", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_job_checkpoints_nome", columnNames = "nome")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+public class JobCheckpoint extends PanacheEntity {
+
+    @Column(nullable = false, length = 100)
+    private String nome;
+
+    @Column(name = "ultimo_id", nullable = false)
+    private Long ultimoId;
+
+    @Column(nullable = false)
+    private Long processados;
+
+    @Column(name = "iniciado_em", nullable = false)
+    private LocalDateTime iniciadoEm;
+
+    @Column(name = "atualizado_em", nullable = false)
+    private LocalDateTime atualizadoEm;
+
+    @Column(nullable = false)
+    private Boolean concluido;
+}
@@ -23,7 +23,7 @@ public class Product extends PanacheEntity {
     @Column(nullable = false)
     private TipoProduto tipo;
 
-    @Column(nullable = false)
+    @Column(nullable = false, precision = 10, scale = 6)
     private BigDecimal rentabilidade;
 
     @Enumerated(EnumType.STRING)
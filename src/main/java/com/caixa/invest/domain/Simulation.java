@@ -9,7 +9,10 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "simulations")
+@Table(name = "simulations", indexes = {
+        @Index(name = "idx_simulations_client_data_id", columnList = "client_id, data_simulacao, id"),
+        @Index(name = "idx_simulations_data_id", columnList = "data_simulacao, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -19,10 +22,14 @@ public class Simulation extends PanacheEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "client_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Client client;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Product product;
 
     @Column(name = "valor_investido", nullable = false)
@@ -31,7 +38,7 @@ public class Simulation extends PanacheEntity {
     @Column(name = "valor_final", nullable = false)
     private BigDecimal valorFinal;
 
-    @Column(name = "rentabilidade_efetiva", nullable = false)
+    @Column(name = "rentabilidade_efetiva", nullable = false, precision = 12, scale = 6)
     private BigDecimal rentabilidadeEfetiva;
 
     @Column(name = "prazo_meses", nullable = false)
@@ -0,0 +1,35 @@
+package com.caixa.invest.domain;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "simulations_daily_rollup", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_simulations_rollup_dia_produto", columnNames = {"dia", "product_id"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+public class SimulationDailyRollup extends PanacheEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Product product;
+
+    @Column(nullable = false)
+    private LocalDate dia;
+
+    @Column(nullable = false)
+    private Long quantidade;
+
+    @Column(name = "soma_valor_final", nullable = false, precision = 21, scale = 2)
+    private BigDecimal somaValorFinal;
+}
@@ -8,7 +8,9 @@ import javax.annotation.processing.Generated;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "telemetry")
+@Table(name = "telemetry", indexes = {
+        @Index(name = "idx_telemetry_timestamp_id", columnList = "timestamp, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -40,7 +42,9 @@ public class Telemetry extends PanacheEntity {
     @Generated("JPA")
     @PrePersist
     public void prePersist() {
-        this.timestamp = LocalDateTime.now();
+        if (this.timestamp == null) {
+            this.timestamp = LocalDateTime.now();
+        }
         if (this.success == null) {
             this.success = this.httpStatus != null && this.httpStatus >= 200 && this.httpStatus < 300;
         }
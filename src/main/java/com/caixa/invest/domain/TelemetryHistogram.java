@@ -0,0 +1,38 @@
+package com.caixa.invest.domain;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Histograma de latências de um serviço em um minuto, no formato de
+ * {@link com.caixa.invest.telemetry.LatencyHistogram#codificar()}
+ */
+@Entity
+@Table(name = "telemetry_histogram", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_telemetry_histogram_servico_minuto", columnNames = {"service_name", "minuto"})
+}, indexes = {
+        @Index(name = "idx_telemetry_histogram_minuto", columnList = "minuto")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+public class TelemetryHistogram extends PanacheEntity {
+
+    @Column(name = "service_name", nullable = false)
+    private String serviceName;
+
+    @Column(nullable = false)
+    private LocalDateTime minuto;
+
+    @Column(nullable = false)
+    private Long quantidade;
+
+    @Column(nullable = false, length = 8192)
+    @ToString.Exclude
+    private byte[] buckets;
+}
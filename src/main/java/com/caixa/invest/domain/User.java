@@ -1,6 +1,7 @@
 package com.caixa.invest.domain;
 
 import io.quarkus.hibernate.orm.panache.PanacheEntity;
+import com.caixa.invest.service.UserCacheInvalidator;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -16,6 +17,7 @@ import java.util.Set;
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = false)
+@EntityListeners(UserCacheInvalidator.class)
 public class User extends PanacheEntity implements Principal {
 
     @Column(unique = true, nullable = false)
@@ -0,0 +1,30 @@
+package com.caixa.invest.dto.request;
+
+import com.caixa.invest.domain.Client;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClienteImportacaoRequest {
+
+    @NotBlank(message = "nome é obrigatório")
+    private String nome;
+
+    @NotBlank(message = "cpf é obrigatório")
+    @Pattern(regexp = "\\d{11}", message = "cpf deve ter 11 dígitos")
+    private String cpf;
+
+    @NotBlank(message = "email é obrigatório")
+    @Email(message = "email inválido")
+    private String email;
+
+    private Client.PreferenciaInvestimento preferenciaInvestimento;
+}
@@ -0,0 +1,48 @@
+package com.caixa.invest.dto.request;
+
+import com.caixa.invest.domain.Investment;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InvestimentoImportacaoRequest {
+
+    @NotNull(message = "clienteId é obrigatório")
+    @Positive(message = "clienteId deve ser positivo")
+    private Long clienteId;
+
+    @NotNull(message = "produtoId é obrigatório")
+    @Positive(message = "produtoId deve ser positivo")
+    private Long produtoId;
+
+    @NotNull(message = "valor é obrigatório")
+    @DecimalMin(value = "0.01", message = "valor deve ser maior que zero")
+    private BigDecimal valor;
+
+    @NotNull(message = "prazoMeses é obrigatório")
+    @Min(value = 1, message = "prazoMeses deve ser no mínimo 1")
+    @Max(value = 360, message = "prazoMeses deve ser no máximo 360")
+    private Integer prazoMeses;
+
+    /**
+     * Data da aplicação (padrão: data da importação)
+     */
+    @PastOrPresent(message = "data não pode ser futura")
+    private LocalDate data;
+
+    /**
+     * Situação do investimento (padrão: ATIVO)
+     */
+    private Investment.StatusInvestimento status;
+
+    private LocalDate dataResgate;
+}
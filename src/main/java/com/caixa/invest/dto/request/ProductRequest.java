@@ -0,0 +1,49 @@
+package com.caixa.invest.dto.request;
+
+import com.caixa.invest.domain.Product;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductRequest {
+
+    @NotBlank(message = "nome é obrigatório")
+    private String nome;
+
+    @NotNull(message = "tipo é obrigatório")
+    private Product.TipoProduto tipo;
+
+    @NotNull(message = "rentabilidade é obrigatória")
+    @DecimalMin(value = "0", message = "rentabilidade não pode ser negativa")
+    private BigDecimal rentabilidade;
+
+    @NotNull(message = "risco é obrigatório")
+    private Product.NivelRisco risco;
+
+    @Min(value = 0, message = "prazoMinimoMeses não pode ser negativo")
+    private Integer prazoMinimoMeses;
+
+    @Max(value = 360, message = "prazoMaximoMeses deve ser no máximo 360")
+    private Integer prazoMaximoMeses;
+
+    @DecimalMin(value = "0", message = "valorMinimo não pode ser negativo")
+    private BigDecimal valorMinimo;
+
+    @DecimalMin(value = "0", message = "valorMaximo não pode ser negativo")
+    private BigDecimal valorMaximo;
+
+    @Min(value = 0, message = "liquidezDias não pode ser negativo")
+    private Integer liquidezDias;
+
+    private String descricao;
+
+    private Boolean ativo;
+}
@@ -0,0 +1,25 @@
+package com.caixa.invest.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CarteiraResponse {
+
+    private Long clienteId;
+    private LocalDate dataReferencia;
+    private Integer quantidadeInvestimentos;
+    private BigDecimal valorInvestido;
+    private BigDecimal valorAtual;
+    private BigDecimal rendimento;
+    private List<InvestimentoResponse> investimentos;
+}
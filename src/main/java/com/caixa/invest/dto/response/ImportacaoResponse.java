@@ -0,0 +1,35 @@
+package com.caixa.invest.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportacaoResponse {
+
+    private String entidade;
+    private Long linhasLidas;
+    private Long importadas;
+    private Long rejeitadas;
+    private Long duracaoMs;
+    private Long linhasPorSegundo;
+
+    /**
+     * Linhas rejeitadas (limitado a importacao.erros-maximos)
+     */
+    private List<ErroLinha> erros;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ErroLinha {
+        private Long linha;
+        private String mensagem;
+    }
+}
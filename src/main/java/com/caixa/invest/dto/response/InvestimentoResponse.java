@@ -1,5 +1,7 @@
 package com.caixa.invest.dto.response;
 
+import com.caixa.invest.domain.Investment;
+import com.caixa.invest.domain.Product;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -21,4 +23,13 @@ public class InvestimentoResponse {
     private LocalDate data;
     private Integer prazoMeses;
     private String status;
+    private BigDecimal valorAtual;
+
+    /**
+     * Usado nas consultas de projeção (select new ...), sem carregar a entidade
+     */
+    public InvestimentoResponse(Long id, Product.TipoProduto tipo, BigDecimal valor, BigDecimal rentabilidade,
+                                LocalDate data, Integer prazoMeses, Investment.StatusInvestimento status) {
+        this(id, tipo.name(), valor, rentabilidade, data, prazoMeses, status == null ? null : status.name(), null);
+    }
 }
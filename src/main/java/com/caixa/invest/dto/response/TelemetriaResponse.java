@@ -25,6 +25,10 @@ public class TelemetriaResponse {
         private String nome;
         private Long quantidadeChamadas;
         private Long mediaTempoRespostaMs;
+        private Long p50TempoRespostaMs;
+        private Long p95TempoRespostaMs;
+        private Long p99TempoRespostaMs;
+        private Long maxTempoRespostaMs;
     }
 
     @Data
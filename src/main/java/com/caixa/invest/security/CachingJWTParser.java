@@ -0,0 +1,173 @@
+package com.caixa.invest.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.smallrye.jwt.auth.principal.DefaultJWTParser;
+import io.smallrye.jwt.auth.principal.JWTAuthContextInfo;
+import io.smallrye.jwt.auth.principal.JWTParser;
+import io.smallrye.jwt.auth.principal.ParseException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Alternative;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+/**
+ * JWTParser com cache dos tokens já verificados.
+ *
+ * Substitui o parser padrão do smallrye-jwt: a primeira chamada com um token
+ * verifica a assinatura normalmente e as seguintes reutilizam o JsonWebToken
+ * até o exp do token. A chave do cache é o SHA-256 do token. Tokens revogados
+ * (logout) são recusados até expirarem; a revogação vale para esta instância
+ * da aplicação.
+ */
+@Alternative
+@Priority(1)
+@ApplicationScoped
+public class CachingJWTParser implements JWTParser {
+
+    @ConfigProperty(name = "auth.token-cache.tamanho-maximo", defaultValue = "10000")
+    long tamanhoMaximo;
+
+    @Inject
+    DefaultJWTParser delegate;
+
+    private Cache<String, JsonWebToken> verificados;
+    private Cache<String, Long> revogados;
+
+    @PostConstruct
+    void init() {
+        verificados = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfter(ateExpirar(JsonWebToken::getExpirationTime))
+                .build();
+        // Sem limite de tamanho: uma revogação não pode ser descartada antes do exp do token
+        revogados = Caffeine.newBuilder()
+                .expireAfter(ateExpirar((Long exp) -> exp))
+                .build();
+    }
+
+    @Override
+    public JsonWebToken parse(String token) throws ParseException {
+        String chave = chave(token);
+        verificarRevogacao(chave);
+
+        JsonWebToken jwt = verificados.getIfPresent(chave);
+        if (jwt != null && jwt.getExpirationTime() > agoraSegundos()) {
+            return jwt;
+        }
+
+        jwt = delegate.parse(token);
+        verificados.put(chave, jwt);
+        return jwt;
+    }
+
+    @Override
+    public JsonWebToken parse(String token, JWTAuthContextInfo context) throws ParseException {
+        verificarRevogacao(chave(token));
+        return delegate.parse(token, context);
+    }
+
+    @Override
+    public JsonWebToken verify(String token, PublicKey key) throws ParseException {
+        return delegate.verify(token, key);
+    }
+
+    @Override
+    public JsonWebToken verify(String token, SecretKey key) throws ParseException {
+        return delegate.verify(token, key);
+    }
+
+    @Override
+    public JsonWebToken verify(String token, String secret) throws ParseException {
+        return delegate.verify(token, secret);
+    }
+
+    @Override
+    public JsonWebToken decrypt(String token, PrivateKey key) throws ParseException {
+        return delegate.decrypt(token, key);
+    }
+
+    @Override
+    public JsonWebToken decrypt(String token, SecretKey key) throws ParseException {
+        return delegate.decrypt(token, key);
+    }
+
+    @Override
+    public JsonWebToken decrypt(String token, String secret) throws ParseException {
+        return delegate.decrypt(token, secret);
+    }
+
+    @Override
+    public JsonWebToken parseOnly(String token) throws ParseException {
+        return delegate.parseOnly(token);
+    }
+
+    /**
+     * Revoga o token até o seu exp e o remove do cache de tokens verificados
+     */
+    public void revogar(JsonWebToken jwt) {
+        String chave = chave(jwt.getRawToken());
+        revogados.put(chave, jwt.getExpirationTime());
+        verificados.invalidate(chave);
+    }
+
+    public boolean revogado(String token) {
+        return revogados.getIfPresent(chave(token)) != null;
+    }
+
+    private void verificarRevogacao(String chave) throws ParseException {
+        if (revogados.getIfPresent(chave) != null) {
+            throw new ParseException("Token revogado");
+        }
+    }
+
+    private static String chave(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long agoraSegundos() {
+        return TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
+    }
+
+    /**
+     * Expiração de cada entrada no exp (em segundos desde a época) do token
+     */
+    private static <V> Expiry<String, V> ateExpirar(ToLongFunction<V> exp) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String chave, V valor, long agora) {
+                long restanteMillis = TimeUnit.SECONDS.toMillis(exp.applyAsLong(valor)) - System.currentTimeMillis();
+                return TimeUnit.MILLISECONDS.toNanos(Math.max(0, restanteMillis));
+            }
+
+            @Override
+            public long expireAfterUpdate(String chave, V valor, long agora, long duracaoAtual) {
+                return expireAfterCreate(chave, valor, agora);
+            }
+
+            @Override
+            public long expireAfterRead(String chave, V valor, long agora, long duracaoAtual) {
+                return duracaoAtual;
+            }
+        };
+    }
+}
@@ -1,38 +1,94 @@
 package com.caixa.invest.security;
 
 import com.caixa.invest.domain.User;
+import io.smallrye.jwt.algorithm.SignatureAlgorithm;
 import io.smallrye.jwt.build.Jwt;
+import io.smallrye.jwt.build.JwtClaimsBuilder;
+import io.smallrye.jwt.util.KeyUtils;
 import jakarta.enterprise.context.ApplicationScoped;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 
+import java.io.IOException;
+import java.security.Key;
+import java.security.PrivateKey;
 import java.time.Duration;
 import java.util.HashSet;
 import java.util.Set;
 
+/**
+ * Emissão dos tokens JWT.
+ *
+ * A chave de assinatura é lida e convertida uma única vez, na primeira emissão,
+ * e reutilizada em todos os tokens seguintes. O algoritmo segue
+ * smallrye.jwt.new-token.signature-algorithm (RS256 por padrão; ES256 e EdDSA
+ * exigem o par de chaves correspondente e o mesmo valor em
+ * mp.jwt.verify.publickey.algorithm).
+ */
 @ApplicationScoped
 public class JwtTokenProvider {
 
     @ConfigProperty(name = "jwt.expiration")
     Long expiration;
 
+    @ConfigProperty(name = "smallrye.jwt.sign.key.location", defaultValue = "privateKey.pem")
+    String keyLocation;
+
+    @ConfigProperty(name = "smallrye.jwt.new-token.signature-algorithm", defaultValue = "RS256")
+    String algorithm;
+
+    private record Assinatura(SignatureAlgorithm algoritmo, PrivateKey chave) {
+    }
+
+    private volatile Assinatura assinatura;
+
     public String generateToken(User user) {
         Set<String> roles = new HashSet<>();
         roles.add(user.getRole().name());
 
-        return Jwt.issuer("painel-investimentos")
+        return sign(Jwt.issuer("painel-investimentos")
                 .upn(user.getUsername())
                 .groups(roles)
                 .claim("email", user.getEmail())
                 .claim("userId", user.id)
-                .expiresIn(Duration.ofMillis(expiration))
-                .sign();
+                .expiresIn(Duration.ofMillis(expiration)));
     }
 
     public String generateToken(String username, Set<String> roles) {
-        return Jwt.issuer("painel-investimentos")
+        return sign(Jwt.issuer("painel-investimentos")
                 .upn(username)
                 .groups(roles)
-                .expiresIn(Duration.ofMillis(expiration))
-                .sign();
+                .expiresIn(Duration.ofMillis(expiration)));
+    }
+
+    private String sign(JwtClaimsBuilder claims) {
+        Assinatura atual = assinatura();
+        return claims.jws().algorithm(atual.algoritmo()).sign(atual.chave());
+    }
+
+    private Assinatura assinatura() {
+        Assinatura atual = assinatura;
+        if (atual == null) {
+            synchronized (this) {
+                atual = assinatura;
+                if (atual == null) {
+                    atual = carregarAssinatura();
+                    assinatura = atual;
+                }
+            }
+        }
+        return atual;
+    }
+
+    private Assinatura carregarAssinatura() {
+        SignatureAlgorithm algoritmo = SignatureAlgorithm.fromAlgorithm(algorithm);
+        try {
+            Key chave = KeyUtils.readSigningKey(keyLocation, null, algoritmo);
+            if (!(chave instanceof PrivateKey privada)) {
+                throw new IllegalStateException("Chave privada de assinatura JWT não encontrada em " + keyLocation);
+            }
+            return new Assinatura(algoritmo, privada);
+        } catch (IOException e) {
+            throw new IllegalStateException("Falha ao carregar a chave de assinatura JWT de " + keyLocation, e);
+        }
     }
 }
@@ -1,17 +1,58 @@
 package com.caixa.invest.security;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.concurrent.TimeUnit;
 
 @ApplicationScoped
 public class PasswordEncoder {
 
+    @ConfigProperty(name = "auth.bcrypt.cost", defaultValue = "12")
+    int custo;
+
+    @Inject
+    MeterRegistry registry;
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(12, rawPassword.toCharArray());
+        return BCrypt.withDefaults().hashToString(custo, rawPassword.toCharArray());
     }
 
+    /**
+     * Verifica a senha e registra o tempo gasto no timer auth.bcrypt.verificacao,
+     * por custo do hash armazenado
+     */
     public boolean matches(String rawPassword, String encodedPassword) {
+        long inicio = System.nanoTime();
         BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
+        registry.timer("auth.bcrypt.verificacao", "custo", String.valueOf(custo(encodedPassword)))
+                .record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
         return result.verified;
     }
+
+    /**
+     * Indica se o hash foi gerado com custo diferente do configurado em auth.bcrypt.cost
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return custo(encodedPassword) != custo;
+    }
+
+    /**
+     * Custo de um hash no formato $2a$12$..., ou -1 se não for um hash BCrypt
+     */
+    static int custo(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$'
+                || encodedPassword.charAt(3) != '$' || encodedPassword.charAt(6) != '$') {
+            return -1;
+        }
+        char dezena = encodedPassword.charAt(4);
+        char unidade = encodedPassword.charAt(5);
+        if (!Character.isDigit(dezena) || !Character.isDigit(unidade)) {
+            return -1;
+        }
+        return (dezena - '0') * 10 + (unidade - '0');
+    }
 }
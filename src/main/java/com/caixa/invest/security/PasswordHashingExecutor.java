@@ -0,0 +1,82 @@
+package com.caixa.invest.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Pool dedicado às operações BCrypt (centenas de ms de CPU cada).
+ *
+ * O pool e a fila são limitados: com ambos cheios a tarefa é rejeitada na hora
+ * com {@link RejectedExecutionException}, em vez de acumular logins e ocupar as
+ * threads que atendem os demais endpoints.
+ */
+@ApplicationScoped
+public class PasswordHashingExecutor {
+
+    @ConfigProperty(name = "auth.hashing.threads", defaultValue = "0")
+    int threads;
+
+    @ConfigProperty(name = "auth.hashing.capacidade-fila", defaultValue = "64")
+    int capacidadeFila;
+
+    @Inject
+    MeterRegistry registry;
+
+    private ThreadPoolExecutor executor;
+    private Counter rejeitadas;
+
+    @PostConstruct
+    void init() {
+        int tamanho = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ClassLoader classLoader = PasswordHashingExecutor.class.getClassLoader();
+        AtomicInteger sequencia = new AtomicInteger();
+
+        executor = new ThreadPoolExecutor(tamanho, tamanho, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacidadeFila),
+                tarefa -> {
+                    Thread thread = new Thread(tarefa, "password-hashing-" + sequencia.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setContextClassLoader(classLoader);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        registry.gauge("auth.hashing.fila", executor.getQueue(), BlockingQueue::size);
+        rejeitadas = registry.counter("auth.hashing.rejeitadas");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Executa a operação no pool de hashing
+     *
+     * @return Estágio concluído com o resultado, ou com {@link RejectedExecutionException}
+     *         se o pool estiver saturado
+     */
+    public <T> CompletionStage<T> submit(Supplier<T> operacao) {
+        try {
+            return CompletableFuture.supplyAsync(operacao, executor);
+        } catch (RejectedExecutionException e) {
+            rejeitadas.increment();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.caixa.invest.security;
+
+import com.caixa.invest.domain.User;
+
+/**
+ * Cópia imutável dos dados de um usuário, mantida no cache users-cache
+ */
+public record UserSnapshot(Long id, String username, String password, String email, User.Role role,
+                           boolean enabled) {
+
+    public static UserSnapshot de(User user) {
+        return new UserSnapshot(user.id, user.getUsername(), user.getPassword(), user.getEmail(), user.getRole(),
+                Boolean.TRUE.equals(user.getEnabled()));
+    }
+
+    /**
+     * Nova instância (não gerenciada) de User com os dados da cópia
+     */
+    public User paraUsuario() {
+        User user = User.builder()
+                .username(username)
+                .password(password)
+                .email(email)
+                .role(role)
+                .enabled(enabled)
+                .build();
+        user.id = id;
+        return user;
+    }
+}
@@ -2,17 +2,32 @@ package com.caixa.invest.service;
 
 import com.caixa.invest.domain.User;
 import com.caixa.invest.security.PasswordEncoder;
+import com.caixa.invest.security.PasswordHashingExecutor;
+import com.caixa.invest.security.UserSnapshot;
+import io.quarkus.narayana.jta.QuarkusTransaction;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 @ApplicationScoped
 public class AuthService {
 
+    private static final Logger LOG = Logger.getLogger(AuthService.class);
+
     @Inject
     PasswordEncoder passwordEncoder;
 
+    @Inject
+    PasswordHashingExecutor hashingExecutor;
+
+    @Inject
+    UserDirectory userDirectory;
+
     public User authenticate(String username, String password) {
-        User user = User.find("username", username).firstResult();
+        User user = findByUsername(username);
         
         if (user == null) {
             throw new SecurityException("Usuário ou senha inválidos");
@@ -25,11 +40,68 @@ public class AuthService {
         if (!passwordEncoder.matches(password, user.getPassword())) {
             throw new SecurityException("Usuário ou senha inválidos");
         }
-        
+
+        atualizarHashSeNecessario(user, password);
         return user;
     }
     
+    /**
+     * Autentica com a verificação BCrypt no pool de hashing, sem ocupar a
+     * thread da requisição durante o hash. O usuário é lido na thread chamadora.
+     *
+     * @return Estágio concluído com o usuário, ou com {@link SecurityException} para
+     *         credenciais inválidas e {@link java.util.concurrent.RejectedExecutionException}
+     *         com o pool saturado
+     */
+    public CompletionStage<User> authenticateAsync(String username, String password) {
+        User user = findByUsername(username);
+
+        if (user == null) {
+            return CompletableFuture.failedFuture(new SecurityException("Usuário ou senha inválidos"));
+        }
+
+        if (!user.getEnabled()) {
+            return CompletableFuture.failedFuture(new SecurityException("Usuário desabilitado"));
+        }
+
+        return hashingExecutor.submit(() -> passwordEncoder.matches(password, user.getPassword()))
+                .thenApply(valida -> {
+                    if (!valida) {
+                        throw new SecurityException("Usuário ou senha inválidos");
+                    }
+                    atualizarHashSeNecessario(user, password);
+                    return user;
+                });
+    }
+
+    /**
+     * Busca o usuário no users-cache
+     *
+     * @return Nova instância não gerenciada de User, ou null se não existir
+     */
     public User findByUsername(String username) {
-        return User.find("username", username).firstResult();
+        if (username == null) {
+            return null;
+        }
+        UserSnapshot snapshot = userDirectory.buscar(username);
+        return snapshot == null ? null : snapshot.paraUsuario();
+    }
+
+    /**
+     * Regrava o hash com o custo configurado quando o armazenado usa outro custo.
+     * Falhas são apenas registradas: o login já foi validado.
+     */
+    private void atualizarHashSeNecessario(User user, String password) {
+        if (!passwordEncoder.needsRehash(user.getPassword())) {
+            return;
+        }
+        try {
+            String hash = passwordEncoder.encode(password);
+            QuarkusTransaction.requiringNew().run(() -> User.update("password = ?1 where id = ?2", hash, user.id));
+            userDirectory.invalidar(user.getUsername());
+            user.setPassword(hash);
+        } catch (RuntimeException e) {
+            LOG.warnf(e, "Falha ao atualizar o hash de senha do usuário %s", user.getUsername());
+        }
     }
 }
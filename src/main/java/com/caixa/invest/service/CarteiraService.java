@@ -0,0 +1,123 @@
+package com.caixa.invest.service;
+
+import com.caixa.invest.domain.Investment;
+import com.caixa.invest.dto.response.CarteiraResponse;
+import com.caixa.invest.dto.response.InvestimentoResponse;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.FlushModeType;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Carteira do cliente marcada na data de referência.
+ *
+ * Os investimentos são lidos com uma única consulta de projeção direto em
+ * {@link InvestimentoResponse} (sem entidades no contexto de persistência,
+ * pelo índice idx_investments_client_status) e avaliados em uma passada: o
+ * valor atual é o valor aplicado vezes o fator diário da taxa
+ * ({@link DailyFactorTable}) pelos dias corridos desde a aplicação, limitados
+ * ao vencimento.
+ */
+@ApplicationScoped
+public class CarteiraService {
+
+    private static final String SELECT_PROJECAO =
+            "select new com.caixa.invest.dto.response.InvestimentoResponse("
+                    + "i.id, i.tipo, i.valor, i.rentabilidade, i.data, i.prazoMeses, i.status) "
+                    + "from Investment i where i.client.id = :clienteId ";
+
+    private static final BigDecimal ZERO_REAIS = BigDecimal.ZERO.setScale(2);
+
+    @Inject
+    EntityManager entityManager;
+
+    /**
+     * Investimentos ativos do cliente com valor atual e totais
+     */
+    public CarteiraResponse carteira(Long clienteId) {
+        List<InvestimentoResponse> investimentos = consulta(SELECT_PROJECAO
+                + "and i.status = :status order by i.data, i.id", clienteId)
+                .setParameter("status", Investment.StatusInvestimento.ATIVO)
+                .getResultList();
+        return avaliar(clienteId, investimentos, LocalDate.now());
+    }
+
+    /**
+     * Histórico de investimentos do cliente, mais recentes primeiro; os ativos
+     * trazem o valor atual
+     */
+    public List<InvestimentoResponse> historico(Long clienteId) {
+        List<InvestimentoResponse> investimentos = consulta(SELECT_PROJECAO
+                + "order by i.data desc, i.id desc", clienteId)
+                .getResultList();
+
+        LocalDate hoje = LocalDate.now();
+        for (InvestimentoResponse investimento : investimentos) {
+            if (Investment.StatusInvestimento.ATIVO.name().equals(investimento.getStatus())) {
+                investimento.setValorAtual(valorAtual(investimento, hoje));
+            }
+        }
+        return investimentos;
+    }
+
+    /**
+     * Marca os investimentos na data de referência e soma os totais, em uma passada
+     */
+    static CarteiraResponse avaliar(Long clienteId, List<InvestimentoResponse> investimentos, LocalDate referencia) {
+        BigDecimal valorInvestido = ZERO_REAIS;
+        BigDecimal valorAtual = ZERO_REAIS;
+        for (InvestimentoResponse investimento : investimentos) {
+            BigDecimal atual = valorAtual(investimento, referencia);
+            investimento.setValorAtual(atual);
+            valorInvestido = valorInvestido.add(investimento.getValor());
+            valorAtual = valorAtual.add(atual);
+        }
+
+        return CarteiraResponse.builder()
+                .clienteId(clienteId)
+                .dataReferencia(referencia)
+                .quantidadeInvestimentos(investimentos.size())
+                .valorInvestido(valorInvestido.setScale(2, RoundingMode.HALF_EVEN))
+                .valorAtual(valorAtual)
+                .rendimento(valorAtual.subtract(valorInvestido).setScale(2, RoundingMode.HALF_EVEN))
+                .investimentos(investimentos)
+                .build();
+    }
+
+    /**
+     * Valor aplicado capitalizado pelos dias corridos até a referência ou até
+     * o vencimento, o que vier antes
+     */
+    static BigDecimal valorAtual(InvestimentoResponse investimento, LocalDate referencia) {
+        LocalDate ate = referencia;
+        if (investimento.getPrazoMeses() != null) {
+            LocalDate vencimento = investimento.getData().plusMonths(investimento.getPrazoMeses());
+            if (vencimento.isBefore(ate)) {
+                ate = vencimento;
+            }
+        }
+        long dias = Math.min(Math.max(ChronoUnit.DAYS.between(investimento.getData(), ate), 0),
+                DailyFactorTable.DIAS_MAXIMOS);
+        return investimento.getValor()
+                .multiply(DailyFactorTable.of(investimento.getRentabilidade()).fator((int) dias))
+                .setScale(2, RoundingMode.HALF_EVEN);
+    }
+
+    /**
+     * Consulta somente leitura: sem flush automático do contexto antes da execução
+     */
+    private TypedQuery<InvestimentoResponse> consulta(String jpql, Long clienteId) {
+        return entityManager.createQuery(jpql, InvestimentoResponse.class)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setFlushMode(FlushModeType.COMMIT)
+                .setParameter("clienteId", clienteId);
+    }
+}
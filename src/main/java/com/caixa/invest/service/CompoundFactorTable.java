@@ -0,0 +1,71 @@
+package com.caixa.invest.service;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Tabela pré-calculada de fatores de capitalização composta por taxa anual.
+ *
+ * Cada tabela guarda, para 1..{@value #PRAZO_MAXIMO_MESES} meses, o fator
+ * (1 + taxa)^(meses / 12) e a rentabilidade efetiva correspondente, de modo
+ * que uma simulação custe apenas uma consulta ao array e poucas multiplicações.
+ * As tabelas são criadas uma única vez por taxa e compartilhadas entre threads.
+ */
+public final class CompoundFactorTable {
+
+    public static final int PRAZO_MAXIMO_MESES = 360;
+
+    private static final int ESCALA_RENTABILIDADE = 4;
+
+    private static final ConcurrentMap<BigDecimal, CompoundFactorTable> TABELAS = new ConcurrentHashMap<>();
+
+    private final BigDecimal[] fatores;
+    private final BigDecimal[] rentabilidadesEfetivas;
+
+    private CompoundFactorTable(BigDecimal rentabilidadeAnual) {
+        double base = 1.0 + rentabilidadeAnual.doubleValue();
+        this.fatores = new BigDecimal[PRAZO_MAXIMO_MESES + 1];
+        this.rentabilidadesEfetivas = new BigDecimal[PRAZO_MAXIMO_MESES + 1];
+
+        for (int meses = 0; meses <= PRAZO_MAXIMO_MESES; meses++) {
+            BigDecimal fator = new BigDecimal(Math.pow(base, meses / 12.0), MathContext.DECIMAL64);
+            fatores[meses] = fator;
+            rentabilidadesEfetivas[meses] = fator.subtract(BigDecimal.ONE)
+                    .setScale(ESCALA_RENTABILIDADE, RoundingMode.HALF_EVEN);
+        }
+    }
+
+    /**
+     * Obtém (ou cria na primeira chamada) a tabela da taxa anual informada
+     *
+     * @param rentabilidadeAnual Taxa anual em fração (ex.: 0.12 para 12% a.a.)
+     * @return Tabela compartilhada da taxa
+     */
+    public static CompoundFactorTable of(BigDecimal rentabilidadeAnual) {
+        return TABELAS.computeIfAbsent(rentabilidadeAnual, CompoundFactorTable::new);
+    }
+
+    /**
+     * Fator de capitalização acumulado para o prazo em meses
+     */
+    public BigDecimal fator(int prazoMeses) {
+        return fatores[checarPrazo(prazoMeses)];
+    }
+
+    /**
+     * Rentabilidade efetiva acumulada (fator - 1) para o prazo em meses
+     */
+    public BigDecimal rentabilidadeEfetiva(int prazoMeses) {
+        return rentabilidadesEfetivas[checarPrazo(prazoMeses)];
+    }
+
+    private static int checarPrazo(int prazoMeses) {
+        if (prazoMeses < 0 || prazoMeses > PRAZO_MAXIMO_MESES) {
+            throw new IllegalArgumentException("prazoMeses fora do intervalo suportado: " + prazoMeses);
+        }
+        return prazoMeses;
+    }
+}
@@ -0,0 +1,54 @@
+package com.caixa.invest.service;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Tabela pré-calculada de fatores de capitalização diária por taxa anual.
+ *
+ * Guarda, para 0..{@value #DIAS_MAXIMOS} dias corridos, o fator
+ * (1 + taxa)^(dias / 365), usado na marcação dos investimentos até a data de
+ * referência. Assim como {@link CompoundFactorTable}, cada tabela é criada uma
+ * única vez por taxa e compartilhada entre threads.
+ */
+public final class DailyFactorTable {
+
+    /**
+     * 30 anos, o prazo máximo de 360 meses
+     */
+    public static final int DIAS_MAXIMOS = 365 * 30 + 8;
+
+    private static final ConcurrentMap<BigDecimal, DailyFactorTable> TABELAS = new ConcurrentHashMap<>();
+
+    private final BigDecimal[] fatores;
+
+    private DailyFactorTable(BigDecimal rentabilidadeAnual) {
+        double base = 1.0 + rentabilidadeAnual.doubleValue();
+        this.fatores = new BigDecimal[DIAS_MAXIMOS + 1];
+        for (int dias = 0; dias <= DIAS_MAXIMOS; dias++) {
+            fatores[dias] = new BigDecimal(Math.pow(base, dias / 365.0), MathContext.DECIMAL64);
+        }
+    }
+
+    /**
+     * Obtém (ou cria na primeira chamada) a tabela da taxa anual informada
+     *
+     * @param rentabilidadeAnual Taxa anual em fração (ex.: 0.12 para 12% a.a.)
+     * @return Tabela compartilhada da taxa
+     */
+    public static DailyFactorTable of(BigDecimal rentabilidadeAnual) {
+        return TABELAS.computeIfAbsent(rentabilidadeAnual.stripTrailingZeros(), DailyFactorTable::new);
+    }
+
+    /**
+     * Fator de capitalização acumulado para os dias corridos informados
+     */
+    public BigDecimal fator(int dias) {
+        if (dias < 0 || dias > DIAS_MAXIMOS) {
+            throw new IllegalArgumentException("dias fora do intervalo suportado: " + dias);
+        }
+        return fatores[dias];
+    }
+}
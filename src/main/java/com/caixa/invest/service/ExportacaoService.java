@@ -0,0 +1,313 @@
+package com.caixa.invest.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.agroal.api.AgroalDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Exportação completa de simulações e telemetria para análise, em CSV ou
+ * NDJSON comprimidos com gzip.
+ *
+ * As linhas são lidas de um cursor JDBC forward-only, fora do contexto de
+ * persistência e sem transação, na ordem do índice de data do período, e
+ * escritas direto na resposta: a memória usada não depende do tamanho do
+ * período. Cada exportação ocupa uma conexão do pool durante todo o download,
+ * então no máximo exportacao.maximo-simultaneas rodam ao mesmo tempo; as
+ * excedentes são recusadas na hora com {@link RejectedExecutionException}, e
+ * as demais requisições nunca ficam sem conexão por causa de exportações.
+ * A vaga reservada é devolvida por {@link Exportacao#liberar()}, que o
+ * controller chama ao término da resposta, mesmo que o corpo nunca seja escrito.
+ */
+@ApplicationScoped
+public class ExportacaoService {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+
+    @ConfigProperty(name = "exportacao.maximo-simultaneas", defaultValue = "2")
+    int maximoSimultaneas;
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    MeterRegistry registry;
+
+    private Semaphore exportacoes;
+    private Counter linhasExportadas;
+    private Counter rejeitadas;
+
+    /**
+     * Conjunto exportável: consulta por período e nomes das colunas na saída
+     */
+    public enum Tabela {
+        SIMULACOES(
+                "SELECT s.id, s.client_id, s.product_id, p.nome, s.valor_investido, s.valor_final, "
+                        + "s.rentabilidade_efetiva, s.prazo_meses, s.imposto_renda, s.valor_liquido, s.data_simulacao "
+                        + "FROM simulations s JOIN products p ON p.id = s.product_id "
+                        + "WHERE s.data_simulacao >= ? AND s.data_simulacao < ? ORDER BY s.data_simulacao, s.id",
+                "id", "clienteId", "produtoId", "produto", "valorInvestido", "valorFinal", "rentabilidadeEfetiva",
+                "prazoMeses", "impostoRenda", "valorLiquido", "dataSimulacao"),
+        TELEMETRIA(
+                "SELECT id, service_name, endpoint, http_method, http_status, response_time_ms, success, timestamp "
+                        + "FROM telemetry WHERE timestamp >= ? AND timestamp < ? ORDER BY timestamp, id",
+                "id", "servico", "endpoint", "metodo", "status", "tempoRespostaMs", "sucesso", "dataHora");
+
+        private final String sql;
+        private final String[] colunas;
+
+        Tabela(String sql, String... colunas) {
+            this.sql = sql;
+            this.colunas = colunas;
+        }
+
+        /**
+         * @throws IllegalArgumentException se o conjunto não for exportável
+         */
+        public static Tabela de(String nome) {
+            try {
+                return valueOf(nome.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new IllegalArgumentException("Exportação deve ser simulacoes ou telemetria");
+            }
+        }
+    }
+
+    public enum Formato {
+        CSV("csv"),
+        NDJSON("ndjson");
+
+        private final String extensao;
+
+        Formato(String extensao) {
+            this.extensao = extensao;
+        }
+
+        public String extensao() {
+            return extensao;
+        }
+
+        /**
+         * @throws IllegalArgumentException se o formato não for csv ou ndjson
+         */
+        public static Formato de(String nome) {
+            try {
+                return valueOf(nome.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new IllegalArgumentException("Formato deve ser csv ou ndjson");
+            }
+        }
+    }
+
+    /**
+     * Exportação com vaga reservada: o corpo da resposta e a liberação da vaga
+     */
+    public final class Exportacao implements StreamingOutput {
+
+        private final Tabela tabela;
+        private final Formato formato;
+        private final LocalDate inicio;
+        private final LocalDate fim;
+        private final AtomicBoolean liberada = new AtomicBoolean();
+
+        private Exportacao(Tabela tabela, Formato formato, LocalDate inicio, LocalDate fim) {
+            this.tabela = tabela;
+            this.formato = formato;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        public void write(OutputStream out) throws IOException {
+            try {
+                escrever(tabela, formato, inicio, fim, out);
+            } finally {
+                liberar();
+            }
+        }
+
+        /**
+         * Devolve a vaga de exportação. Pode ser chamado mais de uma vez: só a primeira chamada libera.
+         */
+        public void liberar() {
+            if (liberada.compareAndSet(false, true)) {
+                exportacoes.release();
+            }
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        exportacoes = new Semaphore(maximoSimultaneas);
+        registry.gauge("exportacao.em-andamento", exportacoes,
+                semaforo -> maximoSimultaneas - semaforo.availablePermits());
+        linhasExportadas = registry.counter("exportacao.linhas");
+        rejeitadas = registry.counter("exportacao.rejeitadas");
+    }
+
+    /**
+     * Reserva uma vaga de exportação e devolve o corpo da resposta, que lê e
+     * comprime as linhas do período (inclusivo) à medida que são escritas.
+     * A vaga é liberada ao final da escrita ou por {@link Exportacao#liberar()},
+     * que quem chama deve garantir ao término da requisição.
+     *
+     * @throws RejectedExecutionException se o limite de exportações simultâneas for atingido
+     */
+    public Exportacao exportar(Tabela tabela, Formato formato, LocalDate inicio, LocalDate fim) {
+        if (!exportacoes.tryAcquire()) {
+            rejeitadas.increment();
+            throw new RejectedExecutionException("Limite de exportações simultâneas atingido");
+        }
+        return new Exportacao(tabela, formato, inicio, fim);
+    }
+
+    private void escrever(Tabela tabela, Formato formato, LocalDate inicio, LocalDate fim, OutputStream out)
+            throws IOException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(tabela.sql,
+                     ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setTimestamp(1, Timestamp.valueOf(inicio.atStartOfDay()));
+            statement.setTimestamp(2, Timestamp.valueOf(fim.plusDays(1).atStartOfDay()));
+
+            try (ResultSet rs = statement.executeQuery();
+                 GZIPOutputStream gzip = new GZIPOutputStream(new SaidaAberta(out), TAMANHO_BUFFER)) {
+                long linhas = formato == Formato.CSV ? csv(tabela, rs, gzip) : ndjson(tabela, rs, gzip);
+                linhasExportadas.increment(linhas);
+            }
+        } catch (SQLException e) {
+            throw new IOException("Falha ao exportar " + tabela.name().toLowerCase(Locale.ROOT), e);
+        }
+    }
+
+    private static long csv(Tabela tabela, ResultSet rs, OutputStream out) throws IOException, SQLException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), TAMANHO_BUFFER);
+        writer.write(String.join(",", tabela.colunas));
+        writer.write('\n');
+
+        long linhas = 0;
+        while (rs.next()) {
+            for (int i = 1; i <= tabela.colunas.length; i++) {
+                if (i > 1) {
+                    writer.write(',');
+                }
+                writer.write(campoCsv(valor(rs, i)));
+            }
+            writer.write('\n');
+            linhas++;
+        }
+        writer.flush();
+        return linhas;
+    }
+
+    private long ndjson(Tabela tabela, ResultSet rs, OutputStream out) throws IOException, SQLException {
+        long linhas = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            generator.setRootValueSeparator(null);
+            while (rs.next()) {
+                generator.writeStartObject();
+                for (int i = 1; i <= tabela.colunas.length; i++) {
+                    generator.writeFieldName(tabela.colunas[i - 1]);
+                    escreverJson(generator, rs.getObject(i));
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+                linhas++;
+            }
+        }
+        return linhas;
+    }
+
+    private static void escreverJson(JsonGenerator generator, Object valor) throws IOException {
+        if (valor == null) {
+            generator.writeNull();
+        } else if (valor instanceof BigDecimal decimal) {
+            generator.writeNumber(decimal);
+        } else if (valor instanceof Long || valor instanceof Integer || valor instanceof Short) {
+            generator.writeNumber(((Number) valor).longValue());
+        } else if (valor instanceof Boolean booleano) {
+            generator.writeBoolean(booleano);
+        } else if (valor instanceof Timestamp timestamp) {
+            generator.writeString(timestamp.toLocalDateTime().toString());
+        } else {
+            generator.writeString(valor.toString());
+        }
+    }
+
+    private static String valor(ResultSet rs, int coluna) throws SQLException {
+        Object valor = rs.getObject(coluna);
+        if (valor == null) {
+            return "";
+        }
+        if (valor instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        return valor instanceof Timestamp timestamp ? timestamp.toLocalDateTime().toString() : valor.toString();
+    }
+
+    /**
+     * Valor CSV: entre aspas (com aspas duplicadas) quando contém separador, aspas ou quebra de linha
+     */
+    static String campoCsv(String valor) {
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return '"' + valor.replace("\"", "\"\"") + '"';
+            }
+        }
+        return valor;
+    }
+
+    /**
+     * Saída da resposta que continua aberta quando o gzip é fechado: quem a fecha é o container
+     */
+    private static final class SaidaAberta extends FilterOutputStream {
+
+        SaidaAberta(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.caixa.invest.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Leitura em streaming de um arquivo de importação, uma linha por vez:
+ * CSV com cabeçalho (nomes dos campos do DTO, separados por vírgula ou ponto e
+ * vírgula, valores opcionalmente entre aspas duplas) ou NDJSON (um objeto JSON
+ * por linha). Cada linha é convertida no DTO da entidade; uma linha que não
+ * pode ser convertida vira um erro da própria linha e a leitura continua.
+ */
+final class ImportacaoLeitor<T> implements Closeable {
+
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+
+    /**
+     * Linha lida: o DTO convertido ou a mensagem de erro
+     *
+     * @param numero Número da linha no arquivo (o cabeçalho do CSV é a linha 1)
+     */
+    record Linha<T>(long numero, T valor, String erro) {
+
+        boolean valida() {
+            return erro == null;
+        }
+    }
+
+    private final ImportacaoService.Formato formato;
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader objectReader;
+
+    private String[] cabecalho;
+    private char separador;
+    private long numero;
+
+    ImportacaoLeitor(ImportacaoService.Formato formato, InputStream entrada, ObjectMapper objectMapper, Class<T> tipo) {
+        this.formato = formato;
+        this.reader = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8), TAMANHO_BUFFER);
+        this.objectMapper = objectMapper;
+        this.objectReader = objectMapper.readerFor(tipo);
+    }
+
+    /**
+     * Próxima linha não vazia do arquivo
+     *
+     * @return Linha lida, ou null no fim do arquivo
+     * @throws IOException se a entrada não puder ser lida
+     */
+    Linha<T> proxima() throws IOException {
+        String texto;
+        while ((texto = reader.readLine()) != null) {
+            numero++;
+            if (numero == 1 && !texto.isEmpty() && texto.charAt(0) == '\uFEFF') {
+                texto = texto.substring(1);
+            }
+            if (texto.isBlank()) {
+                continue;
+            }
+            if (formato == ImportacaoService.Formato.CSV && cabecalho == null) {
+                lerCabecalho(texto);
+                continue;
+            }
+
+            try {
+                T valor = formato == ImportacaoService.Formato.CSV ? deCsv(texto) : objectReader.readValue(texto);
+                return new Linha<>(numero, valor, null);
+            } catch (JsonProcessingException e) {
+                return new Linha<>(numero, null, "Linha inválida: " + e.getOriginalMessage());
+            } catch (IllegalArgumentException e) {
+                return new Linha<>(numero, null, "Linha inválida: " + e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void lerCabecalho(String texto) {
+        separador = texto.indexOf(';') >= 0 && texto.indexOf(',') < 0 ? ';' : ',';
+        List<String> nomes = campos(texto, separador);
+        cabecalho = nomes.toArray(String[]::new);
+    }
+
+    private T deCsv(String texto) throws IOException {
+        List<String> valores = campos(texto, separador);
+        if (valores.size() != cabecalho.length) {
+            throw new IllegalArgumentException("esperados " + cabecalho.length + " campos, encontrados " + valores.size());
+        }
+
+        ObjectNode objeto = objectMapper.createObjectNode();
+        for (int i = 0; i < cabecalho.length; i++) {
+            if (!valores.get(i).isEmpty()) {
+                objeto.put(cabecalho[i], valores.get(i));
+            }
+        }
+        return objectReader.readValue(objeto);
+    }
+
+    /**
+     * Separa os campos de uma linha CSV. Aspas duplas delimitam valores que
+     * contêm o separador; "" dentro de aspas representa uma aspa.
+     *
+     * @throws IllegalArgumentException se houver aspas não fechadas
+     */
+    static List<String> campos(String linha, char separador) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder atual = new StringBuilder();
+        boolean entreAspas = false;
+        for (int i = 0; i < linha.length(); i++) {
+            char c = linha.charAt(i);
+            if (entreAspas) {
+                if (c != '"') {
+                    atual.append(c);
+                } else if (i + 1 < linha.length() && linha.charAt(i + 1) == '"') {
+                    atual.append('"');
+                    i++;
+                } else {
+                    entreAspas = false;
+                }
+            } else if (c == '"') {
+                entreAspas = true;
+            } else if (c == separador) {
+                campos.add(atual.toString().strip());
+                atual.setLength(0);
+            } else {
+                atual.append(c);
+            }
+        }
+        if (entreAspas) {
+            throw new IllegalArgumentException("aspas não fechadas");
+        }
+        campos.add(atual.toString().strip());
+        return campos;
+    }
+}
@@ -0,0 +1,588 @@
+package com.caixa.invest.service;
+
+import com.caixa.invest.domain.Investment;
+import com.caixa.invest.domain.Product;
+import com.caixa.invest.dto.request.ClienteImportacaoRequest;
+import com.caixa.invest.dto.request.InvestimentoImportacaoRequest;
+import com.caixa.invest.dto.request.ProductRequest;
+import com.caixa.invest.dto.response.ImportacaoResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Importação em massa de clientes, produtos e investimentos a partir de CSV ou
+ * NDJSON, para cargas iniciais com milhões de linhas.
+ *
+ * O arquivo é lido em streaming ({@link ImportacaoLeitor}) e cada linha é
+ * validada com as constraints de Bean Validation do DTO da entidade. As linhas
+ * válidas são gravadas com INSERT em lote via JDBC, sem passar pelo contexto
+ * de persistência, uma transação por lote. Os ids vêm do sequence da entidade
+ * no formato do otimizador pooled do Hibernate (cada valor do sequence reserva
+ * os {@value #INCREMENTO_SEQUENCE} ids que terminam nele), então não colidem
+ * com os ids que a aplicação aloca ao mesmo tempo. Um lote recusado pelo banco
+ * (CPF duplicado, cliente inexistente) é regravado linha a linha para isolar
+ * as linhas com erro: linhas inválidas vão para o relatório e nunca abortam a
+ * carga.
+ */
+@ApplicationScoped
+public class ImportacaoService {
+
+    private static final Logger LOG = Logger.getLogger(ImportacaoService.class);
+
+    /**
+     * allocationSize padrão do @GeneratedValue das entidades Panache
+     */
+    static final int INCREMENTO_SEQUENCE = 50;
+
+    private static final int TAMANHO_MAXIMO_MENSAGEM = 300;
+
+    private static final String SQL_INSERIR_CLIENTE =
+            "INSERT INTO clients (id, nome, cpf, email, data_cadastro, volume_total_investido, "
+                    + "frequencia_movimentacoes, preferencia_investimento, perfil_risco, pontuacao_risco, "
+                    + "volume_conservador, volume_moderado, volume_agressivo) "
+                    + "VALUES (?, ?, ?, ?, ?, 0, 0, ?, ?, ?, 0, 0, 0)";
+
+    private static final String SQL_INSERIR_PRODUTO =
+            "INSERT INTO products (id, nome, tipo, rentabilidade, risco, prazo_minimo_meses, prazo_maximo_meses, "
+                    + "valor_minimo, valor_maximo, ativo, liquidez_dias, descricao) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SQL_INSERIR_INVESTIMENTO =
+            "INSERT INTO investments (id, client_id, tipo, valor, rentabilidade, data, prazo_meses, status, "
+                    + "data_resgate, data_vencimento) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SQL_SOMAR_CLIENTE =
+            "UPDATE clients SET "
+                    + "volume_total_investido = COALESCE(volume_total_investido, 0) + ?, "
+                    + "volume_conservador = COALESCE(volume_conservador, 0) + ?, "
+                    + "volume_moderado = COALESCE(volume_moderado, 0) + ?, "
+                    + "volume_agressivo = COALESCE(volume_agressivo, 0) + ?, "
+                    + "frequencia_movimentacoes = COALESCE(frequencia_movimentacoes, 0) + ? "
+                    + "WHERE id = ?";
+
+    @ConfigProperty(name = "importacao.tamanho-lote", defaultValue = "1000")
+    int tamanhoLote;
+
+    @ConfigProperty(name = "importacao.erros-maximos", defaultValue = "1000")
+    int errosMaximos;
+
+    @ConfigProperty(name = "importacao.recalcular-perfis", defaultValue = "true")
+    boolean recalcularPerfis;
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    Validator validator;
+
+    @Inject
+    RiskScorer riskScorer;
+
+    @Inject
+    ProductCatalog catalog;
+
+    @Inject
+    RiskRescoringJob rescoringJob;
+
+    public enum Entidade {
+        CLIENTES,
+        PRODUTOS,
+        INVESTIMENTOS;
+
+        /**
+         * @throws IllegalArgumentException se a entidade não for suportada
+         */
+        public static Entidade de(String nome) {
+            try {
+                return valueOf(nome.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new IllegalArgumentException("Entidade deve ser clientes, produtos ou investimentos");
+            }
+        }
+    }
+
+    public enum Formato {
+        CSV,
+        NDJSON;
+
+        /**
+         * Formato pelo Content-Type (text/csv ou application/x-ndjson)
+         *
+         * @throws IllegalArgumentException se o tipo não for suportado
+         */
+        public static Formato deMediaType(String mediaType) {
+            String tipo = mediaType == null ? "" : mediaType.split(";", 2)[0].strip().toLowerCase(Locale.ROOT);
+            return switch (tipo) {
+                case "text/csv" -> CSV;
+                case "application/x-ndjson", "application/jsonl" -> NDJSON;
+                default -> throw new IllegalArgumentException("Content-Type deve ser text/csv ou application/x-ndjson");
+            };
+        }
+
+        /**
+         * Formato pela extensão do arquivo (.csv, .ndjson ou .jsonl)
+         *
+         * @throws IllegalArgumentException se a extensão não for suportada
+         */
+        public static Formato deArquivo(String nome) {
+            String arquivo = nome.toLowerCase(Locale.ROOT);
+            if (arquivo.endsWith(".csv")) {
+                return CSV;
+            }
+            if (arquivo.endsWith(".ndjson") || arquivo.endsWith(".jsonl")) {
+                return NDJSON;
+            }
+            throw new IllegalArgumentException("Arquivo deve ter extensão .csv, .ndjson ou .jsonl");
+        }
+    }
+
+    /**
+     * Linha válida com o id reservado para ela
+     */
+    private record Registro<T>(long linha, long id, T valor) {
+    }
+
+    /**
+     * Contadores e erros da importação em andamento
+     */
+    private static final class Progresso {
+        final List<ImportacaoResponse.ErroLinha> erros = new ArrayList<>();
+        final int errosMaximos;
+        long lidas;
+        long importadas;
+        long rejeitadas;
+
+        Progresso(int errosMaximos) {
+            this.errosMaximos = errosMaximos;
+        }
+
+        void rejeitar(long linha, String mensagem) {
+            rejeitadas++;
+            if (erros.size() < errosMaximos) {
+                erros.add(new ImportacaoResponse.ErroLinha(linha, mensagem));
+            }
+        }
+    }
+
+    /**
+     * Como gravar as linhas de uma entidade
+     */
+    private abstract static class Destino<T> {
+        final Class<T> tipo;
+        final String sequence;
+        final String sql;
+
+        Destino(Class<T> tipo, String sequence, String sql) {
+            this.tipo = tipo;
+            this.sequence = sequence;
+            this.sql = sql;
+        }
+
+        /**
+         * Regras além das constraints do DTO
+         *
+         * @return Mensagem de erro, ou null se a linha for válida
+         */
+        String verificar(T valor) {
+            return null;
+        }
+
+        abstract void preencher(PreparedStatement statement, long id, T valor) throws SQLException;
+
+        /**
+         * Chamado na transação do lote, depois dos INSERTs
+         */
+        void aposGravar(Connection connection, List<Registro<T>> registros) throws SQLException {
+        }
+
+        /**
+         * Chamado uma vez ao final da importação, se alguma linha foi gravada
+         */
+        void aoConcluir() {
+        }
+    }
+
+    /**
+     * Importa o arquivo inteiro. Linhas inválidas ou recusadas pelo banco são
+     * contadas e listadas no relatório; as demais são gravadas em lotes de
+     * importacao.tamanho-lote, cada lote na sua transação.
+     *
+     * @param entidade Entidade das linhas
+     * @param formato CSV (com cabeçalho) ou NDJSON
+     * @param entrada Conteúdo do arquivo, lido uma linha por vez
+     * @return Relatório com contadores, linhas por segundo e erros por linha
+     * @throws IOException se a entrada não puder ser lida
+     */
+    public ImportacaoResponse importar(Entidade entidade, Formato formato, InputStream entrada) throws IOException {
+        return switch (entidade) {
+            case CLIENTES -> importar(entidade, new DestinoClientes(), formato, entrada);
+            case PRODUTOS -> importar(entidade, new DestinoProdutos(), formato, entrada);
+            case INVESTIMENTOS -> importar(entidade, new DestinoInvestimentos(), formato, entrada);
+        };
+    }
+
+    private <T> ImportacaoResponse importar(Entidade entidade, Destino<T> destino, Formato formato,
+                                            InputStream entrada) throws IOException {
+        long inicio = System.nanoTime();
+        Progresso progresso = new Progresso(errosMaximos);
+        List<ImportacaoLeitor.Linha<T>> lote = new ArrayList<>(tamanhoLote);
+
+        try (ImportacaoLeitor<T> leitor = new ImportacaoLeitor<>(formato, entrada, objectMapper, destino.tipo)) {
+            ImportacaoLeitor.Linha<T> linha;
+            while ((linha = leitor.proxima()) != null) {
+                progresso.lidas++;
+                String erro = linha.valida() ? validar(destino, linha.valor()) : linha.erro();
+                if (erro != null) {
+                    progresso.rejeitar(linha.numero(), erro);
+                    continue;
+                }
+
+                lote.add(linha);
+                if (lote.size() == tamanhoLote) {
+                    gravar(destino, lote, progresso);
+                    lote.clear();
+                    LOG.debugf("Importação de %s: %d linhas gravadas (%d linhas/s)", entidade, progresso.importadas,
+                            porSegundo(progresso.lidas, System.nanoTime() - inicio));
+                }
+            }
+            if (!lote.isEmpty()) {
+                gravar(destino, lote, progresso);
+            }
+        } finally {
+            if (progresso.importadas > 0) {
+                destino.aoConcluir();
+            }
+        }
+
+        long duracao = System.nanoTime() - inicio;
+        long linhasPorSegundo = porSegundo(progresso.lidas, duracao);
+        LOG.infof("Importação de %s: %d linhas lidas, %d importadas, %d rejeitadas em %d ms (%d linhas/s)",
+                entidade, progresso.lidas, progresso.importadas, progresso.rejeitadas,
+                TimeUnit.NANOSECONDS.toMillis(duracao), linhasPorSegundo);
+
+        return ImportacaoResponse.builder()
+                .entidade(entidade.name())
+                .linhasLidas(progresso.lidas)
+                .importadas(progresso.importadas)
+                .rejeitadas(progresso.rejeitadas)
+                .duracaoMs(TimeUnit.NANOSECONDS.toMillis(duracao))
+                .linhasPorSegundo(linhasPorSegundo)
+                .erros(progresso.erros)
+                .build();
+    }
+
+    private <T> String validar(Destino<T> destino, T valor) {
+        Set<ConstraintViolation<T>> violacoes = validator.validate(valor);
+        if (!violacoes.isEmpty()) {
+            return violacoes.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        return destino.verificar(valor);
+    }
+
+    /**
+     * Grava o lote em uma transação; se o banco recusar o lote, regrava linha
+     * a linha (com os mesmos ids) para rejeitar só as linhas com problema
+     */
+    private <T> void gravar(Destino<T> destino, List<ImportacaoLeitor.Linha<T>> lote, Progresso progresso) {
+        long[] ids = QuarkusTransaction.requiringNew().call(() -> {
+            try (Connection connection = dataSource.getConnection()) {
+                return alocarIds(connection, destino.sequence, lote.size());
+            }
+        });
+
+        List<Registro<T>> registros = new ArrayList<>(lote.size());
+        for (int i = 0; i < lote.size(); i++) {
+            ImportacaoLeitor.Linha<T> linha = lote.get(i);
+            registros.add(new Registro<>(linha.numero(), ids[i], linha.valor()));
+        }
+
+        try {
+            QuarkusTransaction.requiringNew().run(() -> inserir(destino, registros));
+            progresso.importadas += registros.size();
+            return;
+        } catch (RuntimeException e) {
+            LOG.debugf("Lote de %d linhas recusado, gravando linha a linha: %s", registros.size(), mensagem(e));
+        }
+
+        for (Registro<T> registro : registros) {
+            try {
+                QuarkusTransaction.requiringNew().run(() -> inserir(destino, List.of(registro)));
+                progresso.importadas++;
+            } catch (RuntimeException e) {
+                progresso.rejeitar(registro.linha(), mensagem(e));
+            }
+        }
+    }
+
+    private <T> void inserir(Destino<T> destino, List<Registro<T>> registros) {
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement(destino.sql)) {
+                for (Registro<T> registro : registros) {
+                    destino.preencher(statement, registro.id(), registro.valor());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+            destino.aposGravar(connection, registros);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reserva ids no sequence como o otimizador pooled do Hibernate: o valor v
+     * devolvido pelo sequence reserva os ids de v - {@value #INCREMENTO_SEQUENCE} + 1 até v
+     *
+     * @return Ids reservados, em ordem crescente
+     */
+    static long[] alocarIds(Connection connection, String sequence, int quantidade) throws SQLException {
+        long[] ids = new long[quantidade];
+        int alocados = 0;
+        try (PreparedStatement statement = connection.prepareStatement("SELECT NEXT VALUE FOR " + sequence)) {
+            while (alocados < quantidade) {
+                long valor;
+                try (ResultSet rs = statement.executeQuery()) {
+                    rs.next();
+                    valor = rs.getLong(1);
+                }
+                for (long id = Math.max(1, valor - INCREMENTO_SEQUENCE + 1); id <= valor && alocados < quantidade; id++) {
+                    ids[alocados++] = id;
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static long porSegundo(long linhas, long nanos) {
+        return nanos <= 0 ? linhas : linhas * TimeUnit.SECONDS.toNanos(1) / nanos;
+    }
+
+    /**
+     * Primeira linha da mensagem da causa mais específica (normalmente a SQLException)
+     */
+    private static String mensagem(Throwable erro) {
+        Throwable causa = erro;
+        while (causa.getCause() != null && causa.getCause() != causa) {
+            causa = causa.getCause();
+        }
+        String mensagem = causa.getMessage() == null ? causa.getClass().getSimpleName() : causa.getMessage();
+        mensagem = mensagem.lines().findFirst().orElse(mensagem);
+        return mensagem.length() > TAMANHO_MAXIMO_MENSAGEM ? mensagem.substring(0, TAMANHO_MAXIMO_MENSAGEM) : mensagem;
+    }
+
+    private static void setInteger(PreparedStatement statement, int parametro, Integer valor) throws SQLException {
+        statement.setObject(parametro, valor, Types.INTEGER);
+    }
+
+    private static void setDate(PreparedStatement statement, int parametro, LocalDate valor) throws SQLException {
+        statement.setDate(parametro, valor == null ? null : Date.valueOf(valor));
+    }
+
+    /**
+     * Clientes novos: agregados zerados e perfil calculado pela preferência declarada
+     */
+    private final class DestinoClientes extends Destino<ClienteImportacaoRequest> {
+
+        private final Timestamp dataCadastro = Timestamp.valueOf(LocalDateTime.now());
+
+        DestinoClientes() {
+            super(ClienteImportacaoRequest.class, "clients_SEQ", SQL_INSERIR_CLIENTE);
+        }
+
+        @Override
+        void preencher(PreparedStatement statement, long id, ClienteImportacaoRequest cliente) throws SQLException {
+            RiskScorer.Categoria preferencia = RiskScorer.Categoria.de(cliente.getPreferenciaInvestimento());
+            int pontuacao = riskScorer.pontuar(BigDecimal.ZERO, 0, preferencia);
+
+            statement.setLong(1, id);
+            statement.setString(2, cliente.getNome());
+            statement.setString(3, cliente.getCpf());
+            statement.setString(4, cliente.getEmail());
+            statement.setTimestamp(5, dataCadastro);
+            statement.setString(6, preferencia.preferencia().name());
+            statement.setString(7, RiskScorer.perfil(pontuacao).name());
+            statement.setInt(8, pontuacao);
+        }
+    }
+
+    /**
+     * Produtos: mesmas regras de limites do cadastro; o catálogo em memória é
+     * recarregado ao final
+     */
+    private final class DestinoProdutos extends Destino<ProductRequest> {
+
+        DestinoProdutos() {
+            super(ProductRequest.class, "products_SEQ", SQL_INSERIR_PRODUTO);
+        }
+
+        @Override
+        String verificar(ProductRequest produto) {
+            try {
+                ProductService.validarLimites(produto);
+                return null;
+            } catch (IllegalArgumentException e) {
+                return e.getMessage();
+            }
+        }
+
+        @Override
+        void preencher(PreparedStatement statement, long id, ProductRequest produto) throws SQLException {
+            statement.setLong(1, id);
+            statement.setString(2, produto.getNome());
+            statement.setString(3, produto.getTipo().name());
+            statement.setBigDecimal(4, produto.getRentabilidade());
+            statement.setString(5, produto.getRisco().name());
+            setInteger(statement, 6, produto.getPrazoMinimoMeses());
+            setInteger(statement, 7, produto.getPrazoMaximoMeses());
+            statement.setBigDecimal(8, produto.getValorMinimo());
+            statement.setBigDecimal(9, produto.getValorMaximo());
+            statement.setBoolean(10, produto.getAtivo() == null || produto.getAtivo());
+            setInteger(statement, 11, produto.getLiquidezDias());
+            statement.setString(12, produto.getDescricao());
+        }
+
+        /**
+         * Atualiza o catálogo desta instância; as demais o recebem na recarga
+         * periódica ou por POST /api/products/recarregar
+         */
+        @Override
+        void aoConcluir() {
+            catalog.recarregar();
+        }
+    }
+
+    /**
+     * Investimentos de clientes já cadastrados. Tipo e rentabilidade vêm do
+     * produto no catálogo; os agregados dos clientes são somados na transação
+     * do lote e a pontuação de risco é recalculada ao final pelo
+     * {@link RiskRescoringJob}.
+     */
+    private final class DestinoInvestimentos extends Destino<InvestimentoImportacaoRequest> {
+
+        private final ProductCatalog.Snapshot produtos = catalog.snapshot();
+        private final LocalDate hoje = LocalDate.now();
+
+        DestinoInvestimentos() {
+            super(InvestimentoImportacaoRequest.class, "investments_SEQ", SQL_INSERIR_INVESTIMENTO);
+        }
+
+        /**
+         * Valores a somar em um cliente: total, por categoria e movimentações
+         */
+        private static final class Acrescimo {
+            BigDecimal total = BigDecimal.ZERO;
+            final BigDecimal[] porCategoria = {BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO};
+            int movimentacoes;
+        }
+
+        @Override
+        String verificar(InvestimentoImportacaoRequest investimento) {
+            return produtos.porId(investimento.getProdutoId()) == null ? "Produto não encontrado" : null;
+        }
+
+        @Override
+        void preencher(PreparedStatement statement, long id, InvestimentoImportacaoRequest investimento)
+                throws SQLException {
+            Product produto = produtos.porId(investimento.getProdutoId());
+            LocalDate data = data(investimento);
+
+            statement.setLong(1, id);
+            statement.setLong(2, investimento.getClienteId());
+            statement.setString(3, produto.getTipo().name());
+            statement.setBigDecimal(4, investimento.getValor());
+            statement.setBigDecimal(5, produto.getRentabilidade());
+            setDate(statement, 6, data);
+            statement.setInt(7, investimento.getPrazoMeses());
+            statement.setString(8, status(investimento).name());
+            setDate(statement, 9, investimento.getDataResgate());
+            setDate(statement, 10, data.plusMonths(investimento.getPrazoMeses()));
+        }
+
+        /**
+         * Soma os investimentos do lote nos clientes: o volume só conta para os
+         * ativos; cada aplicação é uma movimentação e o resgate, outra. Os
+         * clientes são atualizados em ordem de id para que lotes concorrentes
+         * travem as linhas sempre na mesma ordem.
+         */
+        @Override
+        void aposGravar(Connection connection, List<Registro<InvestimentoImportacaoRequest>> registros)
+                throws SQLException {
+            Map<Long, Acrescimo> porCliente = new TreeMap<>();
+            for (Registro<InvestimentoImportacaoRequest> registro : registros) {
+                InvestimentoImportacaoRequest investimento = registro.valor();
+                Acrescimo acrescimo = porCliente.computeIfAbsent(investimento.getClienteId(), c -> new Acrescimo());
+                Investment.StatusInvestimento status = status(investimento);
+
+                acrescimo.movimentacoes += status == Investment.StatusInvestimento.RESGATADO ? 2 : 1;
+                if (status == Investment.StatusInvestimento.ATIVO) {
+                    int categoria = RiskScorer.Categoria.de(produtos.porId(investimento.getProdutoId()).getTipo()).ordinal();
+                    acrescimo.total = acrescimo.total.add(investimento.getValor());
+                    acrescimo.porCategoria[categoria] = acrescimo.porCategoria[categoria].add(investimento.getValor());
+                }
+            }
+
+            try (PreparedStatement statement = connection.prepareStatement(SQL_SOMAR_CLIENTE)) {
+                for (Map.Entry<Long, Acrescimo> entrada : porCliente.entrySet()) {
+                    Acrescimo acrescimo = entrada.getValue();
+                    statement.setBigDecimal(1, acrescimo.total);
+                    statement.setBigDecimal(2, acrescimo.porCategoria[0]);
+                    statement.setBigDecimal(3, acrescimo.porCategoria[1]);
+                    statement.setBigDecimal(4, acrescimo.porCategoria[2]);
+                    statement.setInt(5, acrescimo.movimentacoes);
+                    statement.setLong(6, entrada.getKey());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        }
+
+        @Override
+        void aoConcluir() {
+            if (recalcularPerfis) {
+                rescoringJob.iniciar();
+            }
+        }
+
+        private LocalDate data(InvestimentoImportacaoRequest investimento) {
+            return investimento.getData() == null ? hoje : investimento.getData();
+        }
+
+        private static Investment.StatusInvestimento status(InvestimentoImportacaoRequest investimento) {
+            return investimento.getStatus() == null ? Investment.StatusInvestimento.ATIVO : investimento.getStatus();
+        }
+    }
+}
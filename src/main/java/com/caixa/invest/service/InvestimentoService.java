@@ -0,0 +1,110 @@
+package com.caixa.invest.service;
+
+import com.caixa.invest.domain.Client;
+import com.caixa.invest.domain.Investment;
+import com.caixa.invest.domain.Product;
+import com.caixa.invest.dto.request.InvestimentoRequest;
+import com.caixa.invest.dto.response.InvestimentoResponse;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.LockModeType;
+import jakarta.transaction.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.NoSuchElementException;
+
+/**
+ * Aplicações e resgates. Cada movimentação atualiza, na mesma transação e com
+ * o cliente bloqueado, os agregados e a pontuação de risco do cliente.
+ */
+@ApplicationScoped
+public class InvestimentoService {
+
+    @Inject
+    ProductService productService;
+
+    @Inject
+    RiskScorer riskScorer;
+
+    /**
+     * Registra uma aplicação no produto informado
+     *
+     * @param request Cliente, produto, valor e prazo
+     * @return Investimento criado
+     */
+    @Transactional
+    public InvestimentoResponse investir(InvestimentoRequest request) {
+        Client client = Client.findById(request.getClienteId(), LockModeType.PESSIMISTIC_WRITE);
+        if (client == null) {
+            throw new NoSuchElementException("Cliente não encontrado");
+        }
+
+        Product product = productService.findById(request.getProdutoId());
+        if (product == null || !Boolean.TRUE.equals(product.getAtivo())) {
+            throw new NoSuchElementException("Produto não encontrado");
+        }
+        validarLimites(product, request.getValor(), request.getPrazoMeses());
+
+        Investment investment = Investment.builder()
+                .client(client)
+                .tipo(product.getTipo())
+                .valor(request.getValor())
+                .rentabilidade(product.getRentabilidade())
+                .data(LocalDate.now())
+                .prazoMeses(request.getPrazoMeses())
+                .status(Investment.StatusInvestimento.ATIVO)
+                .build();
+        investment.persist();
+
+        riskScorer.registrarAplicacao(client, investment.getTipo(), investment.getValor());
+        return resposta(investment);
+    }
+
+    /**
+     * Resgata um investimento ativo
+     *
+     * @param investimentoId ID do investimento
+     * @return Investimento resgatado
+     */
+    @Transactional
+    public InvestimentoResponse resgatar(Long investimentoId) {
+        Investment investment = Investment.findById(investimentoId, LockModeType.PESSIMISTIC_WRITE);
+        if (investment == null) {
+            throw new NoSuchElementException("Investimento não encontrado");
+        }
+        if (investment.getStatus() != Investment.StatusInvestimento.ATIVO) {
+            throw new IllegalArgumentException("Investimento não está ativo");
+        }
+
+        Client client = Client.findById(investment.getClient().id, LockModeType.PESSIMISTIC_WRITE);
+        investment.setStatus(Investment.StatusInvestimento.RESGATADO);
+        investment.setDataResgate(LocalDate.now());
+
+        riskScorer.registrarResgate(client, investment.getTipo(), investment.getValor());
+        return resposta(investment);
+    }
+
+    static InvestimentoResponse resposta(Investment investment) {
+        return InvestimentoResponse.builder()
+                .id(investment.id)
+                .tipo(investment.getTipo().name())
+                .valor(investment.getValor())
+                .rentabilidade(investment.getRentabilidade())
+                .data(investment.getData())
+                .prazoMeses(investment.getPrazoMeses())
+                .status(investment.getStatus().name())
+                .build();
+    }
+
+    private static void validarLimites(Product product, BigDecimal valor, int prazoMeses) {
+        if ((product.getValorMinimo() != null && valor.compareTo(product.getValorMinimo()) < 0)
+                || (product.getValorMaximo() != null && valor.compareTo(product.getValorMaximo()) > 0)) {
+            throw new IllegalArgumentException("valor fora dos limites do produto");
+        }
+        if ((product.getPrazoMinimoMeses() != null && prazoMeses < product.getPrazoMinimoMeses())
+                || (product.getPrazoMaximoMeses() != null && prazoMeses > product.getPrazoMaximoMeses())) {
+            throw new IllegalArgumentException("prazoMeses fora dos limites do produto");
+        }
+    }
+}
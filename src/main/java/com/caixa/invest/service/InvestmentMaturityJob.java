@@ -0,0 +1,284 @@
+package com.caixa.invest.service;
+
+import com.caixa.invest.domain.Client;
+import com.caixa.invest.domain.JobCheckpoint;
+import com.caixa.invest.domain.Product;
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Vencimento dos investimentos: passa de ATIVO para VENCIDO os investimentos
+ * com data_vencimento até a data de referência e retira o valor vencido dos
+ * volumes do cliente, recalculando na mesma transação a pontuação de risco
+ * dos clientes afetados.
+ *
+ * Cada lote é uma transação: lê os primeiros investimentos vencidos pelo
+ * índice (status, data_vencimento), atualiza-os com UPDATE em lote condicionado
+ * a status = ATIVO e desconta dos clientes só os que de fato mudaram, em ordem
+ * de id, para que lotes concorrentes bloqueiem os clientes na mesma ordem. Como os
+ * investimentos atualizados saem do filtro, o job não precisa de cursor: uma
+ * execução interrompida é retomada pela próxima, e repetir a execução não
+ * altera nada. O {@link JobCheckpoint} registra o progresso da execução.
+ */
+@ApplicationScoped
+public class InvestmentMaturityJob {
+
+    private static final Logger LOG = Logger.getLogger(InvestmentMaturityJob.class);
+
+    public static final String NOME = "investimentos-vencimento";
+
+    private static final String SQL_VENCIDOS =
+            "SELECT id, client_id, tipo, valor FROM investments "
+                    + "WHERE status = 'ATIVO' AND data_vencimento <= ? ORDER BY data_vencimento, id";
+
+    private static final String SQL_VENCER =
+            "UPDATE investments SET status = 'VENCIDO' WHERE id = ? AND status = 'ATIVO'";
+
+    private static final String SQL_DESCONTAR_CLIENTE =
+            "UPDATE clients SET "
+                    + "volume_total_investido = " + desconto("volume_total_investido") + ", "
+                    + "volume_conservador = " + desconto("volume_conservador") + ", "
+                    + "volume_moderado = " + desconto("volume_moderado") + ", "
+                    + "volume_agressivo = " + desconto("volume_agressivo") + " "
+                    + "WHERE id = ?";
+
+    private static final String SQL_CLIENTE =
+            "SELECT volume_total_investido, frequencia_movimentacoes, preferencia_investimento, "
+                    + "volume_conservador, volume_moderado, volume_agressivo FROM clients WHERE id = ?";
+
+    private static final String SQL_PONTUAR_CLIENTE =
+            "UPDATE clients SET pontuacao_risco = ?, perfil_risco = ?, preferencia_investimento = ? WHERE id = ?";
+
+    @ConfigProperty(name = "investimentos.vencimento.tamanho-lote", defaultValue = "1000")
+    int tamanhoLote;
+
+    @ConfigProperty(name = "investimentos.vencimento.pausa-entre-lotes-ms", defaultValue = "0")
+    long pausaEntreLotesMs;
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @Inject
+    RiskScorer riskScorer;
+
+    private final ReentrantLock execucao = new ReentrantLock();
+
+    private record Vencido(long id, long clienteId, RiskScorer.Categoria categoria, BigDecimal valor) {
+    }
+
+    /**
+     * Valores a descontar de um cliente: total e por categoria
+     */
+    private static final class Desconto {
+        BigDecimal total = BigDecimal.ZERO;
+        final BigDecimal[] porCategoria = {BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO};
+    }
+
+    private static String desconto(String coluna) {
+        return "CASE WHEN COALESCE(" + coluna + ", 0) > ? THEN " + coluna + " - ? ELSE 0 END";
+    }
+
+    /**
+     * Execução noturna (investimentos.vencimento.cron). Desligada quando "off".
+     */
+    @Scheduled(cron = "${investimentos.vencimento.cron:off}", identity = "investimentos-vencimento",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void executarAgendado() {
+        executar(LocalDate.now());
+    }
+
+    /**
+     * Vence todos os investimentos ativos com vencimento até a data de referência
+     *
+     * @return Quantidade de investimentos vencidos nesta execução
+     * @throws IllegalStateException se já houver uma execução em andamento
+     */
+    public long executar(LocalDate referencia) {
+        if (!execucao.tryLock()) {
+            throw new IllegalStateException("Job de vencimento já em execução");
+        }
+        try {
+            QuarkusTransaction.requiringNew().run(this::abrirCheckpoint);
+            long vencidos = 0;
+            while (!Thread.currentThread().isInterrupted()) {
+                int lote = QuarkusTransaction.requiringNew().call(() -> processarLote(referencia));
+                if (lote < 0) {
+                    break;
+                }
+                vencidos += lote;
+                if (pausaEntreLotesMs > 0) {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(pausaEntreLotesMs));
+                }
+            }
+
+            if (!Thread.currentThread().isInterrupted()) {
+                QuarkusTransaction.requiringNew().run(() -> JobCheckpoint.update(
+                        "concluido = true, atualizadoEm = ?1 where nome = ?2", LocalDateTime.now(), NOME));
+            }
+            LOG.infof("Job de vencimento (referência %s): %d investimentos vencidos", referencia, vencidos);
+            return vencidos;
+        } finally {
+            execucao.unlock();
+        }
+    }
+
+    private void abrirCheckpoint() {
+        LocalDateTime agora = LocalDateTime.now();
+        JobCheckpoint checkpoint = JobCheckpoint.find("nome", NOME).firstResult();
+        if (checkpoint == null) {
+            checkpoint = JobCheckpoint.builder().nome(NOME).build();
+            checkpoint.persist();
+        } else if (!checkpoint.getConcluido()) {
+            LOG.infof("Retomando job de vencimento interrompido (%d já vencidos)", checkpoint.getProcessados());
+            return;
+        }
+        checkpoint.setUltimoId(0L);
+        checkpoint.setProcessados(0L);
+        checkpoint.setIniciadoEm(agora);
+        checkpoint.setAtualizadoEm(agora);
+        checkpoint.setConcluido(false);
+    }
+
+    /**
+     * @return Quantidade vencida no lote, ou -1 quando não houver mais investimentos a vencer
+     */
+    private int processarLote(LocalDate referencia) {
+        try (Connection connection = dataSource.getConnection()) {
+            List<Vencido> candidatos = ler(connection, referencia);
+            if (candidatos.isEmpty()) {
+                return -1;
+            }
+
+            List<Vencido> vencidos = vencer(connection, candidatos);
+            descontarClientes(connection, vencidos);
+
+            JobCheckpoint.update("ultimoId = ?1, processados = processados + ?2, atualizadoEm = ?3 where nome = ?4",
+                    candidatos.get(candidatos.size() - 1).id(), (long) vencidos.size(), LocalDateTime.now(), NOME);
+            return vencidos.size();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Falha no lote do job de vencimento", e);
+        }
+    }
+
+    private List<Vencido> ler(Connection connection, LocalDate referencia) throws SQLException {
+        List<Vencido> vencidos = new ArrayList<>(tamanhoLote);
+        try (PreparedStatement statement = connection.prepareStatement(SQL_VENCIDOS)) {
+            statement.setMaxRows(tamanhoLote);
+            statement.setFetchSize(tamanhoLote);
+            statement.setDate(1, Date.valueOf(referencia));
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    vencidos.add(new Vencido(rs.getLong(1), rs.getLong(2),
+                            RiskScorer.Categoria.de(Product.TipoProduto.valueOf(rs.getString(3))), rs.getBigDecimal(4)));
+                }
+            }
+        }
+        return vencidos;
+    }
+
+    /**
+     * Atualiza o lote e devolve só os investimentos que ainda estavam ativos
+     * (um resgate concorrente já os teria tirado de ATIVO)
+     */
+    private static List<Vencido> vencer(Connection connection, List<Vencido> candidatos) throws SQLException {
+        int[] atualizados;
+        try (PreparedStatement statement = connection.prepareStatement(SQL_VENCER)) {
+            for (Vencido vencido : candidatos) {
+                statement.setLong(1, vencido.id());
+                statement.addBatch();
+            }
+            atualizados = statement.executeBatch();
+        }
+
+        List<Vencido> vencidos = new ArrayList<>(candidatos.size());
+        for (int i = 0; i < candidatos.size(); i++) {
+            if (atualizados[i] > 0 || atualizados[i] == Statement.SUCCESS_NO_INFO) {
+                vencidos.add(candidatos.get(i));
+            }
+        }
+        return vencidos;
+    }
+
+    private void descontarClientes(Connection connection, List<Vencido> vencidos) throws SQLException {
+        Map<Long, Desconto> porCliente = new TreeMap<>();
+        for (Vencido vencido : vencidos) {
+            Desconto desconto = porCliente.computeIfAbsent(vencido.clienteId(), id -> new Desconto());
+            desconto.total = desconto.total.add(vencido.valor());
+            int categoria = vencido.categoria().ordinal();
+            desconto.porCategoria[categoria] = desconto.porCategoria[categoria].add(vencido.valor());
+        }
+        if (porCliente.isEmpty()) {
+            return;
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(SQL_DESCONTAR_CLIENTE)) {
+            for (Map.Entry<Long, Desconto> entrada : porCliente.entrySet()) {
+                Desconto desconto = entrada.getValue();
+                int parametro = 1;
+                for (BigDecimal valor : new BigDecimal[]{desconto.total, desconto.porCategoria[0],
+                        desconto.porCategoria[1], desconto.porCategoria[2]}) {
+                    statement.setBigDecimal(parametro++, valor);
+                    statement.setBigDecimal(parametro++, valor);
+                }
+                statement.setLong(parametro, entrada.getKey());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+
+        pontuarClientes(connection, porCliente.keySet());
+    }
+
+    /**
+     * Recalcula a pontuação de risco dos clientes descontados. As linhas já
+     * estão bloqueadas pelo desconto desta transação, então leitura e escrita
+     * não concorrem com aplicações ou resgates.
+     */
+    private void pontuarClientes(Connection connection, Iterable<Long> clientes) throws SQLException {
+        try (PreparedStatement leitura = connection.prepareStatement(SQL_CLIENTE);
+             PreparedStatement escrita = connection.prepareStatement(SQL_PONTUAR_CLIENTE)) {
+            for (Long clienteId : clientes) {
+                leitura.setLong(1, clienteId);
+                try (ResultSet rs = leitura.executeQuery()) {
+                    if (!rs.next()) {
+                        continue;
+                    }
+                    String declarada = rs.getString(3);
+                    RiskScorer.Categoria preferencia = RiskScorer.preferencia(
+                            rs.getBigDecimal(4), rs.getBigDecimal(5), rs.getBigDecimal(6),
+                            declarada == null ? null : Client.PreferenciaInvestimento.valueOf(declarada));
+                    int pontuacao = riskScorer.pontuar(rs.getBigDecimal(1), rs.getInt(2), preferencia);
+
+                    escrita.setInt(1, pontuacao);
+                    escrita.setString(2, RiskScorer.perfil(pontuacao).name());
+                    escrita.setString(3, preferencia.preferencia().name());
+                    escrita.setLong(4, clienteId);
+                    escrita.addBatch();
+                }
+            }
+            escrita.executeBatch();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.caixa.invest.service;
+
+import com.caixa.invest.domain.Client;
+import com.caixa.invest.dto.response.PerfilRiscoResponse;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Consulta do perfil de risco já calculado. A pontuação é mantida pelo
+ * {@link RiskScorer} a cada movimentação, então a consulta é uma única
+ * leitura pela chave primária do cliente.
+ */
+@ApplicationScoped
+public class PerfilRiscoService {
+
+    @Inject
+    EntityManager entityManager;
+
+    public PerfilRiscoResponse buscar(Long clienteId) {
+        List<Object[]> linhas = entityManager.createQuery(
+                        "select c.perfilRisco, c.pontuacaoRisco from Client c where c.id = :id", Object[].class)
+                .setParameter("id", clienteId)
+                .getResultList();
+        if (linhas.isEmpty()) {
+            throw new NoSuchElementException("Cliente não encontrado");
+        }
+
+        Integer pontuacao = linhas.get(0)[1] == null ? 0 : (Integer) linhas.get(0)[1];
+        Client.PerfilRisco perfil = linhas.get(0)[0] == null
+                ? RiskScorer.perfil(pontuacao)
+                : (Client.PerfilRisco) linhas.get(0)[0];
+
+        return PerfilRiscoResponse.builder()
+                .clienteId(clienteId)
+                .perfil(perfil.name())
+                .pontuacao(pontuacao)
+                .descricao(descricao(perfil))
+                .build();
+    }
+
+    static String descricao(Client.PerfilRisco perfil) {
+        return switch (perfil) {
+            case CONSERVADOR -> "Perfil focado em segurança e liquidez.";
+            case MODERADO -> "Perfil equilibrado entre segurança e rentabilidade.";
+            case AGRESSIVO -> "Perfil que busca alta rentabilidade, aceitando maior risco.";
+        };
+    }
+}
@@ -0,0 +1,237 @@
+package com.caixa.invest.service;
+
+import com.caixa.invest.domain.Product;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import org.jboss.logging.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Catálogo de produtos em memória.
+ *
+ * O catálogo inteiro fica em um {@link Snapshot} imutável, carregado na
+ * inicialização e substituído atomicamente a cada {@link ProductChangedEvent}
+ * (após o commit, relendo o produto alterado). As leituras não acessam o
+ * banco: listas por tipo e risco ficam em EnumMaps e a busca por id é um
+ * acesso a array. A recarga completa periódica
+ * (produtos.catalogo.recarga.intervalo) aplica as alterações feitas por outras
+ * instâncias ou direto no banco.
+ */
+@ApplicationScoped
+public class ProductCatalog {
+
+    private static final Logger LOG = Logger.getLogger(ProductCatalog.class);
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Visão imutável do catálogo em um instante
+     */
+    public static final class Snapshot {
+
+        private final long versao;
+        private final Product[] porId;
+        private final List<Product> ativos;
+        private final Map<Product.TipoProduto, List<Product>> porTipo;
+        private final Map<Product.NivelRisco, List<Product>> porRisco;
+
+        Snapshot(long versao, List<Product> produtos) {
+            this.versao = versao;
+
+            long maiorId = produtos.stream().mapToLong(p -> p.id).max().orElse(0);
+            this.porId = new Product[Math.toIntExact(maiorId + 1)];
+            produtos.forEach(p -> porId[Math.toIntExact(p.id)] = p);
+
+            List<Product> ordenados = Arrays.stream(porId)
+                    .filter(p -> p != null && Boolean.TRUE.equals(p.getAtivo()))
+                    .toList();
+            this.ativos = ordenados;
+
+            Map<Product.TipoProduto, List<Product>> tipos = new EnumMap<>(Product.TipoProduto.class);
+            Map<Product.NivelRisco, List<Product>> riscos = new EnumMap<>(Product.NivelRisco.class);
+            for (Product.TipoProduto tipo : Product.TipoProduto.values()) {
+                tipos.put(tipo, ordenados.stream().filter(p -> p.getTipo() == tipo).toList());
+            }
+            for (Product.NivelRisco risco : Product.NivelRisco.values()) {
+                riscos.put(risco, ordenados.stream().filter(p -> p.getRisco() == risco).toList());
+            }
+            this.porTipo = tipos;
+            this.porRisco = riscos;
+        }
+
+        /**
+         * Incrementada a cada alteração do catálogo
+         */
+        public long versao() {
+            return versao;
+        }
+
+        /**
+         * Produtos ativos em ordem de id
+         */
+        public List<Product> ativos() {
+            return ativos;
+        }
+
+        public List<Product> porTipo(Product.TipoProduto tipo) {
+            return porTipo.get(tipo);
+        }
+
+        public List<Product> porRisco(Product.NivelRisco risco) {
+            return porRisco.get(risco);
+        }
+
+        /**
+         * Produto pelo id, ativo ou não
+         *
+         * @return Produto, ou null se não existir
+         */
+        public Product porId(Long id) {
+            return id == null || id < 0 || id >= porId.length ? null : porId[(int) (long) id];
+        }
+
+        /**
+         * Página dos produtos ativos (visão sobre a lista imutável, sem cópia)
+         */
+        public List<Product> pagina(int pagina, int tamanho) {
+            long inicio = (long) pagina * tamanho;
+            if (inicio >= ativos.size()) {
+                return List.of();
+            }
+            return ativos.subList((int) inicio, (int) Math.min(inicio + tamanho, ativos.size()));
+        }
+
+        /**
+         * Página dos produtos ativos com id maior que o informado (paginação por cursor)
+         */
+        public List<Product> apos(long id, int tamanho) {
+            int inicio = posicaoApos(id);
+            return ativos.subList(inicio, Math.min(inicio + tamanho, ativos.size()));
+        }
+
+        /**
+         * Quantidade de produtos ativos com id menor ou igual ao informado,
+         * que é também a posição do primeiro produto depois dele
+         */
+        public int posicaoApos(long id) {
+            int baixo = 0;
+            int alto = ativos.size();
+            while (baixo < alto) {
+                int meio = (baixo + alto) >>> 1;
+                if (ativos.get(meio).id <= id) {
+                    baixo = meio + 1;
+                } else {
+                    alto = meio;
+                }
+            }
+            return baixo;
+        }
+
+        Snapshot com(Product alterado) {
+            List<Product> produtos = sem(alterado.id);
+            produtos.add(alterado);
+            return new Snapshot(versao + 1, produtos);
+        }
+
+        /**
+         * Catálogo sem o produto (removido do banco)
+         */
+        Snapshot semProduto(Long id) {
+            return porId(id) == null ? this : new Snapshot(versao + 1, sem(id));
+        }
+
+        /**
+         * Indica se os produtos, em ordem de id, são iguais aos deste catálogo
+         */
+        boolean contemExatamente(List<Product> produtos) {
+            int i = 0;
+            for (Product atual : porId) {
+                if (atual == null) {
+                    continue;
+                }
+                if (i >= produtos.size()) {
+                    return false;
+                }
+                Product outro = produtos.get(i++);
+                if (!atual.id.equals(outro.id) || !atual.equals(outro)) {
+                    return false;
+                }
+            }
+            return i == produtos.size();
+        }
+
+        private List<Product> sem(Long id) {
+            List<Product> produtos = new ArrayList<>(porId.length);
+            for (Product product : porId) {
+                if (product != null && !product.id.equals(id)) {
+                    produtos.add(product);
+                }
+            }
+            return produtos;
+        }
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        recarregar();
+    }
+
+    /**
+     * Catálogo atual
+     */
+    public Snapshot snapshot() {
+        Snapshot atual = snapshot;
+        if (atual == null) {
+            recarregar();
+            atual = snapshot;
+        }
+        return atual;
+    }
+
+    /**
+     * Relê todos os produtos do banco (carga inicial ou alterações feitas fora
+     * do {@link ProductService} desta instância). Sem diferença para o
+     * catálogo atual, a versão é mantida.
+     */
+    public synchronized void recarregar() {
+        List<Product> produtos = QuarkusTransaction.requiringNew().call(() -> Product.<Product>listAll());
+        produtos.sort(Comparator.comparing(p -> p.id));
+        if (snapshot != null && snapshot.contemExatamente(produtos)) {
+            return;
+        }
+        long versao = snapshot == null ? 1 : snapshot.versao() + 1;
+        snapshot = new Snapshot(versao, produtos);
+        LOG.debugf("Catálogo de produtos carregado: %d produtos, versão %d", produtos.size(), versao);
+    }
+
+    /**
+     * Recarga periódica, para convergir com alterações de outras instâncias.
+     * Desligada quando "off".
+     */
+    @Scheduled(every = "${produtos.catalogo.recarga.intervalo:off}", identity = "produtos-catalogo-recarga",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void recarregarAgendado() {
+        recarregar();
+    }
+
+    /**
+     * Aplica ao catálogo a alteração de um produto, já confirmada no banco.
+     * O produto é relido dentro do bloqueio do catálogo: se os observadores de
+     * duas alterações rodarem fora da ordem dos commits, ambos leem o estado
+     * mais recente e o mais antigo nunca sobrescreve o mais novo.
+     */
+    synchronized void onProductChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) ProductChangedEvent event) {
+        Product product = QuarkusTransaction.requiringNew().call(() -> Product.<Product>findById(event.productId()));
+        Snapshot atual = snapshot();
+        snapshot = product == null ? atual.semProduto(event.productId()) : atual.com(product);
+    }
+}
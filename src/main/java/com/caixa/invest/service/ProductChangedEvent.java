@@ -0,0 +1,10 @@
+package com.caixa.invest.service;
+
+/**
+ * Evento CDI disparado na transação que cria, altera ou desativa um produto.
+ * Carrega só o id: os observadores de pós-commit releem o produto no banco,
+ * então a ordem em que rodam não importa e sempre prevalece o último estado
+ * confirmado.
+ */
+public record ProductChangedEvent(Long productId) {
+}
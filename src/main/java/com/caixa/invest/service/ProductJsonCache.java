@@ -0,0 +1,100 @@
+package com.caixa.invest.service;
+
+import com.caixa.invest.domain.Product;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * JSON já serializado das listagens de produtos.
+ *
+ * Cada listagem é serializada uma única vez por versão do catálogo e guardada
+ * em bytes UTF-8, junto com um ETag forte derivado do conteúdo. Quando o
+ * catálogo muda, todas as respostas da versão anterior são descartadas de uma vez.
+ */
+@ApplicationScoped
+public class ProductJsonCache {
+
+    @Inject
+    ProductCatalog catalog;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    private volatile Versao atual;
+
+    /**
+     * Corpo pronto da resposta e o seu ETag (já entre aspas)
+     */
+    public record Renderizado(byte[] json, String etag) {
+
+        /**
+         * Serializa o corpo e calcula o ETag (SHA-256 do JSON, truncado)
+         */
+        static Renderizado de(ObjectMapper objectMapper, Object corpo) {
+            try {
+                byte[] json = objectMapper.writeValueAsBytes(corpo);
+                byte[] hash = MessageDigest.getInstance("SHA-256").digest(json);
+                String etag = "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 16)) + "\"";
+                return new Renderizado(json, etag);
+            } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+                throw new IllegalStateException("Falha ao serializar resposta", e);
+            }
+        }
+
+        /**
+         * Indica se o valor do header If-None-Match corresponde a este conteúdo
+         */
+        public boolean corresponde(String ifNoneMatch) {
+            if (ifNoneMatch == null) {
+                return false;
+            }
+            return Arrays.stream(ifNoneMatch.split(","))
+                    .map(String::trim)
+                    .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                    .anyMatch(tag -> tag.equals("*") || tag.equals(etag));
+        }
+    }
+
+    private record Versao(long versao, Map<String, Renderizado> respostas) {
+    }
+
+    public Renderizado todos() {
+        return renderizar("todos", ProductCatalog.Snapshot::ativos);
+    }
+
+    public Renderizado porTipo(Product.TipoProduto tipo) {
+        return renderizar("tipo:" + tipo, snapshot -> snapshot.porTipo(tipo));
+    }
+
+    public Renderizado porRisco(Product.NivelRisco risco) {
+        return renderizar("risco:" + risco, snapshot -> snapshot.porRisco(risco));
+    }
+
+    private Renderizado renderizar(String chave, Function<ProductCatalog.Snapshot, List<Product>> lista) {
+        ProductCatalog.Snapshot snapshot = catalog.snapshot();
+        Versao versao = atual;
+        if (versao == null || versao.versao() < snapshot.versao()) {
+            versao = new Versao(snapshot.versao(), new ConcurrentHashMap<>());
+            atual = versao;
+        } else if (versao.versao() > snapshot.versao()) {
+            // Snapshot lido antes de uma troca concorrente: responde sem guardar
+            return serializar(lista.apply(snapshot));
+        }
+        return versao.respostas().computeIfAbsent(chave, c -> serializar(lista.apply(snapshot)));
+    }
+
+    private Renderizado serializar(List<Product> products) {
+        return Renderizado.de(objectMapper, products);
+    }
+}
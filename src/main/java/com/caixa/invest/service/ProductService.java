@@ -1,22 +1,29 @@
 package com.caixa.invest.service;
 
 import com.caixa.invest.domain.Product;
-import io.quarkus.cache.CacheResult;
-import io.quarkus.panache.common.Page;
+import com.caixa.invest.dto.request.ProductRequest;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
 
 import java.util.List;
+import java.util.NoSuchElementException;
 
 @ApplicationScoped
 public class ProductService {
 
+    @Inject
+    ProductCatalog catalog;
+
+    @Inject
+    Event<ProductChangedEvent> productChanged;
+
     /**
-     * Busca todos os produtos ativos com cache
-     * Cache expira em 5 minutos
+     * Busca todos os produtos ativos (catálogo em memória)
      */
-    @CacheResult(cacheName = "products-cache")
     public List<Product> findAllActive() {
-        return Product.find("ativo = true").list();
+        return catalog.snapshot().ativos();
     }
 
     /**
@@ -27,48 +34,158 @@ public class ProductService {
      * @return Lista paginada de produtos
      */
     public List<Product> findAllActivePaginated(int pageIndex, int pageSize) {
-        return Product.find("ativo = true")
-                .page(Page.of(pageIndex, pageSize))
-                .list();
+        return catalog.snapshot().pagina(pageIndex, pageSize);
+    }
+
+    /**
+     * Busca produtos ativos com id maior que o informado (paginação por cursor),
+     * sem custo proporcional à posição da página
+     * 
+     * @param afterId ID do último produto da página anterior
+     * @param pageSize Tamanho da página
+     * @return Produtos em ordem de id
+     */
+    public List<Product> findAllActiveAfter(long afterId, int pageSize) {
+        return catalog.snapshot().apos(afterId, pageSize);
+    }
+
+    /**
+     * Conta produtos ativos com id menor ou igual ao informado
+     */
+    public long countActiveUpTo(long id) {
+        return catalog.snapshot().posicaoApos(id);
     }
 
     /**
-     * Conta total de produtos ativos
+     * Conta total de produtos ativos (mantido pelo catálogo a cada versão, sem COUNT no banco)
      */
     public long countActive() {
-        return Product.count("ativo = true");
+        return catalog.snapshot().ativos().size();
     }
 
     /**
-     * Busca produtos por tipo com cache
+     * Busca produtos ativos por tipo (catálogo em memória)
      * 
      * @param tipo Tipo do produto
      * @return Lista de produtos do tipo especificado
      */
-    @CacheResult(cacheName = "products-by-type-cache")
     public List<Product> findByType(Product.TipoProduto tipo) {
-        return Product.find("tipo = ?1 and ativo = true", tipo).list();
+        return catalog.snapshot().porTipo(tipo);
     }
 
     /**
-     * Busca produtos por nível de risco com cache
+     * Busca produtos ativos por nível de risco (catálogo em memória)
      * 
      * @param risco Nível de risco
      * @return Lista de produtos com o risco especificado
      */
-    @CacheResult(cacheName = "products-by-risk-cache")
     public List<Product> findByRisk(Product.NivelRisco risco) {
-        return Product.find("risco = ?1 and ativo = true", risco).list();
+        return catalog.snapshot().porRisco(risco);
     }
 
     /**
-     * Busca produto por ID com cache
+     * Busca produto por ID (catálogo em memória)
      * 
      * @param id ID do produto
-     * @return Produto encontrado
+     * @return Produto encontrado, ou null
      */
-    @CacheResult(cacheName = "product-by-id-cache")
     public Product findById(Long id) {
-        return Product.findById(id);
+        return catalog.snapshot().porId(id);
+    }
+
+    /**
+     * Cadastra um produto; o catálogo em memória é atualizado após o commit
+     *
+     * @param request Dados do produto
+     * @return Produto criado
+     * @throws IllegalArgumentException se os limites de prazo ou valor forem inconsistentes
+     */
+    @Transactional
+    public Product create(ProductRequest request) {
+        Product product = new Product();
+        aplicar(product, request);
+        product.persist();
+        productChanged.fire(new ProductChangedEvent(product.id));
+        return product;
+    }
+
+    /**
+     * Atualiza um produto; o catálogo em memória é atualizado após o commit
+     *
+     * @param id ID do produto
+     * @param request Novos dados do produto
+     * @return Produto atualizado
+     * @throws NoSuchElementException se o produto não existir
+     * @throws IllegalArgumentException se os limites de prazo ou valor forem inconsistentes
+     */
+    @Transactional
+    public Product update(Long id, ProductRequest request) {
+        Product product = buscarParaAlteracao(id);
+        aplicar(product, request);
+        productChanged.fire(new ProductChangedEvent(product.id));
+        return product;
+    }
+
+    /**
+     * Desativa um produto (ativo = false), retirando-o das consultas e simulações
+     *
+     * @param id ID do produto
+     * @throws NoSuchElementException se o produto não existir
+     */
+    @Transactional
+    public void deactivate(Long id) {
+        Product product = buscarParaAlteracao(id);
+        product.setAtivo(false);
+        productChanged.fire(new ProductChangedEvent(product.id));
+    }
+
+    /**
+     * Relê o catálogo em memória do banco, para aplicar alterações feitas
+     * fora desta instância (outra instância, importação pela linha de comando
+     * ou SQL direto)
+     *
+     * @return Versão do catálogo após a recarga
+     */
+    public long recarregarCatalogo() {
+        catalog.recarregar();
+        return catalog.snapshot().versao();
+    }
+
+    private static Product buscarParaAlteracao(Long id) {
+        Product product = Product.findById(id);
+        if (product == null) {
+            throw new NoSuchElementException("Produto não encontrado");
+        }
+        return product;
+    }
+
+    private static void aplicar(Product product, ProductRequest request) {
+        validarLimites(request);
+
+        product.setNome(request.getNome());
+        product.setTipo(request.getTipo());
+        product.setRentabilidade(request.getRentabilidade());
+        product.setRisco(request.getRisco());
+        product.setPrazoMinimoMeses(request.getPrazoMinimoMeses());
+        product.setPrazoMaximoMeses(request.getPrazoMaximoMeses());
+        product.setValorMinimo(request.getValorMinimo());
+        product.setValorMaximo(request.getValorMaximo());
+        product.setLiquidezDias(request.getLiquidezDias());
+        product.setDescricao(request.getDescricao());
+        product.setAtivo(request.getAtivo() == null || request.getAtivo());
+    }
+
+    /**
+     * @throws IllegalArgumentException se os limites de prazo ou valor forem inconsistentes
+     */
+    static void validarLimites(ProductRequest request) {
+        if (request.getPrazoMinimoMeses() != null && request.getPrazoMaximoMeses() != null
+                && request.getPrazoMinimoMeses() > request.getPrazoMaximoMeses()) {
+            throw new IllegalArgumentException("prazoMinimoMeses deve ser menor ou igual a prazoMaximoMeses");
+        }
+        if (request.getValorMinimo() != null && request.getValorMaximo() != null
+                && request.getValorMinimo().compareTo(request.getValorMaximo()) > 0) {
+            throw new IllegalArgumentException("valorMinimo deve ser menor ou igual a valorMaximo");
+        }
     }
 }
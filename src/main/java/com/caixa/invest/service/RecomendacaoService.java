@@ -0,0 +1,114 @@
+package com.caixa.invest.service;
+
+import com.caixa.invest.domain.Client;
+import com.caixa.invest.domain.Product;
+import com.caixa.invest.dto.response.ProdutoResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Produtos recomendados por perfil de risco.
+ *
+ * As três listas são montadas, ordenadas e serializadas de uma vez a cada
+ * versão do catálogo; a leitura é só a comparação de versão e um acesso ao
+ * EnumMap, sem filtrar nem alocar listas por requisição.
+ *
+ * Conservador: só risco baixo, maior liquidez primeiro. Moderado: risco baixo e
+ * médio, médio primeiro. Agressivo: todos, maior risco primeiro. Dentro do
+ * mesmo critério, maior rentabilidade primeiro.
+ */
+@ApplicationScoped
+public class RecomendacaoService {
+
+    private static final Comparator<Product> MAIOR_RENTABILIDADE =
+            Comparator.comparing(Product::getRentabilidade, Comparator.reverseOrder());
+
+    private static final Comparator<Product> MAIOR_RISCO =
+            Comparator.comparing(Product::getRisco, Comparator.reverseOrder());
+
+    @Inject
+    ProductCatalog catalog;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    private volatile Recomendacoes atual;
+
+    private record Recomendacoes(long versao, Map<Client.PerfilRisco, ProductJsonCache.Renderizado> porPerfil) {
+    }
+
+    /**
+     * Lista recomendada para o perfil, já serializada
+     */
+    public ProductJsonCache.Renderizado recomendados(Client.PerfilRisco perfil) {
+        ProductCatalog.Snapshot snapshot = catalog.snapshot();
+        Recomendacoes recomendacoes = atual;
+        if (recomendacoes == null || recomendacoes.versao() < snapshot.versao()) {
+            recomendacoes = montar(snapshot);
+        }
+        return recomendacoes.porPerfil().get(perfil);
+    }
+
+    /**
+     * Lista recomendada para o perfil, ordenada
+     */
+    static List<ProdutoResponse> ranquear(List<Product> ativos, Client.PerfilRisco perfil) {
+        Set<Product.NivelRisco> riscos = switch (perfil) {
+            case CONSERVADOR -> EnumSet.of(Product.NivelRisco.BAIXO);
+            case MODERADO -> EnumSet.of(Product.NivelRisco.BAIXO, Product.NivelRisco.MEDIO);
+            case AGRESSIVO -> EnumSet.allOf(Product.NivelRisco.class);
+        };
+        Comparator<Product> ordem = perfil == Client.PerfilRisco.CONSERVADOR
+                ? Comparator.comparing(RecomendacaoService::liquidezDias).thenComparing(MAIOR_RENTABILIDADE)
+                : MAIOR_RISCO.thenComparing(MAIOR_RENTABILIDADE);
+
+        return ativos.stream()
+                .filter(p -> riscos.contains(p.getRisco()))
+                .sorted(ordem.thenComparing(p -> p.id))
+                .map(RecomendacaoService::resposta)
+                .toList();
+    }
+
+    private synchronized Recomendacoes montar(ProductCatalog.Snapshot snapshot) {
+        Recomendacoes recomendacoes = atual;
+        if (recomendacoes != null && recomendacoes.versao() >= snapshot.versao()) {
+            return recomendacoes;
+        }
+
+        Map<Client.PerfilRisco, ProductJsonCache.Renderizado> porPerfil = new EnumMap<>(Client.PerfilRisco.class);
+        for (Client.PerfilRisco perfil : Client.PerfilRisco.values()) {
+            porPerfil.put(perfil, ProductJsonCache.Renderizado.de(objectMapper, ranquear(snapshot.ativos(), perfil)));
+        }
+        recomendacoes = new Recomendacoes(snapshot.versao(), porPerfil);
+        atual = recomendacoes;
+        return recomendacoes;
+    }
+
+    private static int liquidezDias(Product product) {
+        return product.getLiquidezDias() == null ? Integer.MAX_VALUE : product.getLiquidezDias();
+    }
+
+    private static ProdutoResponse resposta(Product product) {
+        return ProdutoResponse.builder()
+                .id(product.id)
+                .nome(product.getNome())
+                .tipo(product.getTipo().name())
+                .rentabilidade(product.getRentabilidade())
+                .risco(product.getRisco().name())
+                .prazoMinimoMeses(product.getPrazoMinimoMeses())
+                .prazoMaximoMeses(product.getPrazoMaximoMeses())
+                .valorMinimo(product.getValorMinimo())
+                .valorMaximo(product.getValorMaximo())
+                .liquidezDias(product.getLiquidezDias())
+                .descricao(product.getDescricao())
+                .build();
+    }
+}
@@ -0,0 +1,257 @@
+package com.caixa.invest.service;
+
+import com.caixa.invest.domain.Client;
+import com.caixa.invest.domain.JobCheckpoint;
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Recálculo da pontuação de risco de todos os clientes (por exemplo após
+ * mudança dos pesos em perfil-risco.peso.*).
+ *
+ * Os clientes são lidos por faixa de id via JDBC, sem passar pelo contexto de
+ * persistência, pontuados em um ForkJoinPool e gravados com UPDATE em lote.
+ * Cada lote tem a sua transação, que também avança o {@link JobCheckpoint};
+ * depois de uma queda o job retoma do último lote confirmado. O UPDATE só
+ * vale se a frequência de movimentações não mudou desde a leitura: uma
+ * aplicação ou resgate concorrente já recalculou o cliente com os pesos atuais.
+ */
+@ApplicationScoped
+public class RiskRescoringJob {
+
+    private static final Logger LOG = Logger.getLogger(RiskRescoringJob.class);
+
+    public static final String NOME = "perfil-risco-recalculo";
+
+    private static final String SQL_LOTE =
+            "SELECT id, volume_total_investido, frequencia_movimentacoes, preferencia_investimento, "
+                    + "volume_conservador, volume_moderado, volume_agressivo "
+                    + "FROM clients WHERE id > ? ORDER BY id";
+
+    private static final String SQL_ATUALIZAR =
+            "UPDATE clients SET pontuacao_risco = ?, perfil_risco = ?, preferencia_investimento = ? "
+                    + "WHERE id = ? AND COALESCE(frequencia_movimentacoes, 0) = ?";
+
+    @ConfigProperty(name = "perfil-risco.recalculo.tamanho-lote", defaultValue = "1000")
+    int tamanhoLote;
+
+    @ConfigProperty(name = "perfil-risco.recalculo.paralelismo", defaultValue = "0")
+    int paralelismo;
+
+    @ConfigProperty(name = "perfil-risco.recalculo.retomar-na-inicializacao", defaultValue = "true")
+    boolean retomarNaInicializacao;
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @Inject
+    RiskScorer riskScorer;
+
+    private final ReentrantLock execucao = new ReentrantLock();
+    private final AtomicBoolean agendado = new AtomicBoolean();
+    private ForkJoinPool pool;
+    private ExecutorService disparo;
+
+    private record Linha(long id, BigDecimal volume, int movimentacoes, Client.PreferenciaInvestimento declarada,
+                         BigDecimal volumeConservador, BigDecimal volumeModerado, BigDecimal volumeAgressivo) {
+    }
+
+    private record Resultado(long id, int movimentacoes, int pontuacao, Client.PerfilRisco perfil,
+                             Client.PreferenciaInvestimento preferencia) {
+    }
+
+    private record Lote(long ultimoId, int quantidade) {
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        pool = new ForkJoinPool(paralelismo > 0 ? paralelismo : Runtime.getRuntime().availableProcessors());
+        disparo = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, NOME);
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        if (retomarNaInicializacao && pendente()) {
+            LOG.info("Recálculo de perfis de risco interrompido; retomando do último checkpoint");
+            iniciar();
+        }
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        if (disparo != null) {
+            disparo.shutdownNow();
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Dispara o recálculo em segundo plano
+     *
+     * @return false se já houver um recálculo agendado ou em execução
+     */
+    public boolean iniciar() {
+        if (execucao.isLocked() || !agendado.compareAndSet(false, true)) {
+            return false;
+        }
+        disparo.execute(() -> {
+            try {
+                executar();
+            } catch (RuntimeException e) {
+                LOG.error("Falha no recálculo de perfis de risco; será retomado do último checkpoint", e);
+            } finally {
+                agendado.set(false);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Recalcula todos os clientes a partir do checkpoint (ou do início, se o
+     * último recálculo foi concluído)
+     *
+     * @return Total de clientes processados no recálculo
+     * @throws IllegalStateException se já houver um recálculo em execução
+     */
+    public long executar() {
+        if (!execucao.tryLock()) {
+            throw new IllegalStateException("Recálculo de perfis de risco já em execução");
+        }
+        try {
+            long apos = QuarkusTransaction.requiringNew().call(this::abrirCheckpoint);
+            while (!Thread.currentThread().isInterrupted()) {
+                long inicio = apos;
+                Lote lote = QuarkusTransaction.requiringNew().call(() -> processarLote(inicio));
+                if (lote.quantidade() == 0) {
+                    break;
+                }
+                apos = lote.ultimoId();
+            }
+
+            if (Thread.currentThread().isInterrupted()) {
+                LOG.infof("Recálculo de perfis de risco interrompido após o id %d", apos);
+                return checkpoint().getProcessados();
+            }
+            return QuarkusTransaction.requiringNew().call(() -> {
+                JobCheckpoint checkpoint = checkpoint();
+                checkpoint.setConcluido(true);
+                checkpoint.setAtualizadoEm(LocalDateTime.now());
+                LOG.infof("Recálculo de perfis de risco concluído: %d clientes", checkpoint.getProcessados());
+                return checkpoint.getProcessados();
+            });
+        } finally {
+            execucao.unlock();
+        }
+    }
+
+    /**
+     * Indica se há um recálculo iniciado e não concluído
+     */
+    public boolean pendente() {
+        return QuarkusTransaction.requiringNew().call(() -> {
+            JobCheckpoint checkpoint = checkpoint();
+            return checkpoint != null && !checkpoint.getConcluido();
+        });
+    }
+
+    private JobCheckpoint checkpoint() {
+        return JobCheckpoint.find("nome", NOME).firstResult();
+    }
+
+    private long abrirCheckpoint() {
+        LocalDateTime agora = LocalDateTime.now();
+        JobCheckpoint checkpoint = checkpoint();
+        if (checkpoint == null) {
+            checkpoint = JobCheckpoint.builder().nome(NOME).build();
+            checkpoint.persist();
+        } else if (!checkpoint.getConcluido()) {
+            LOG.infof("Retomando recálculo de perfis de risco após o id %d", checkpoint.getUltimoId());
+            return checkpoint.getUltimoId();
+        }
+        checkpoint.setUltimoId(0L);
+        checkpoint.setProcessados(0L);
+        checkpoint.setIniciadoEm(agora);
+        checkpoint.setAtualizadoEm(agora);
+        checkpoint.setConcluido(false);
+        return 0L;
+    }
+
+    private Lote processarLote(long apos) {
+        try (Connection connection = dataSource.getConnection()) {
+            List<Linha> linhas = ler(connection, apos);
+            if (linhas.isEmpty()) {
+                return new Lote(apos, 0);
+            }
+
+            List<Resultado> resultados = pool.submit(() -> linhas.parallelStream().map(this::pontuar).toList()).join();
+            gravar(connection, resultados);
+
+            long ultimoId = linhas.get(linhas.size() - 1).id();
+            JobCheckpoint.update("ultimoId = ?1, processados = processados + ?2, atualizadoEm = ?3 where nome = ?4",
+                    ultimoId, (long) linhas.size(), LocalDateTime.now(), NOME);
+            return new Lote(ultimoId, linhas.size());
+        } catch (SQLException e) {
+            throw new IllegalStateException("Falha no lote de recálculo após o id " + apos, e);
+        }
+    }
+
+    private List<Linha> ler(Connection connection, long apos) throws SQLException {
+        List<Linha> linhas = new ArrayList<>(tamanhoLote);
+        try (PreparedStatement statement = connection.prepareStatement(SQL_LOTE)) {
+            statement.setMaxRows(tamanhoLote);
+            statement.setFetchSize(tamanhoLote);
+            statement.setLong(1, apos);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    String declarada = rs.getString(4);
+                    linhas.add(new Linha(rs.getLong(1), rs.getBigDecimal(2), rs.getInt(3),
+                            declarada == null ? null : Client.PreferenciaInvestimento.valueOf(declarada),
+                            rs.getBigDecimal(5), rs.getBigDecimal(6), rs.getBigDecimal(7)));
+                }
+            }
+        }
+        return linhas;
+    }
+
+    private Resultado pontuar(Linha linha) {
+        RiskScorer.Categoria preferencia = RiskScorer.preferencia(linha.volumeConservador(), linha.volumeModerado(),
+                linha.volumeAgressivo(), linha.declarada());
+        int pontuacao = riskScorer.pontuar(linha.volume(), linha.movimentacoes(), preferencia);
+        return new Resultado(linha.id(), linha.movimentacoes(), pontuacao, RiskScorer.perfil(pontuacao),
+                preferencia.preferencia());
+    }
+
+    private static void gravar(Connection connection, List<Resultado> resultados) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(SQL_ATUALIZAR)) {
+            for (Resultado resultado : resultados) {
+                statement.setInt(1, resultado.pontuacao());
+                statement.setString(2, resultado.perfil().name());
+                statement.setString(3, resultado.preferencia().name());
+                statement.setLong(4, resultado.id());
+                statement.setInt(5, resultado.movimentacoes());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+}
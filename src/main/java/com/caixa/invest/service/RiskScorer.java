@@ -0,0 +1,194 @@
+package com.caixa.invest.service;
+
+import com.caixa.invest.domain.Client;
+import com.caixa.invest.domain.Product;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.math.BigDecimal;
+
+/**
+ * Pontuação de risco do cliente (0 a 100) pelos três critérios do modelo:
+ * volume investido, frequência de movimentações e preferência de investimento.
+ *
+ * Os pontos de cada critério seguem as faixas do modelo (volume até 40,
+ * frequência até 30, preferência até 30) e são ponderados pelos pesos
+ * configurados, 40/30/30 por padrão. Os agregados do cliente são atualizados
+ * a cada aplicação e resgate, então a pontuação nunca relê os investimentos.
+ */
+@ApplicationScoped
+public class RiskScorer {
+
+    private static final BigDecimal ATE_10_MIL = new BigDecimal("10000");
+    private static final BigDecimal ATE_50_MIL = new BigDecimal("50000");
+    private static final BigDecimal ATE_100_MIL = new BigDecimal("100000");
+
+    @ConfigProperty(name = "perfil-risco.peso.volume", defaultValue = "40")
+    int pesoVolume;
+
+    @ConfigProperty(name = "perfil-risco.peso.frequencia", defaultValue = "30")
+    int pesoFrequencia;
+
+    @ConfigProperty(name = "perfil-risco.peso.preferencia", defaultValue = "30")
+    int pesoPreferencia;
+
+    /**
+     * Categoria de risco dos tipos de produto
+     */
+    public enum Categoria {
+        CONSERVADOR,
+        MODERADO,
+        AGRESSIVO;
+
+        public static Categoria de(Product.TipoProduto tipo) {
+            return switch (tipo) {
+                case CDB, LCI, LCA, POUPANCA -> CONSERVADOR;
+                case TESOURO_DIRETO, FUNDO_RENDA_FIXA -> MODERADO;
+                case FUNDO, FUNDO_MULTIMERCADO, FUNDO_ACOES -> AGRESSIVO;
+            };
+        }
+
+        static Categoria de(Client.PreferenciaInvestimento preferencia) {
+            if (preferencia == null) {
+                return CONSERVADOR;
+            }
+            return switch (preferencia) {
+                case LIQUIDEZ -> CONSERVADOR;
+                case EQUILIBRADO -> MODERADO;
+                case RENTABILIDADE -> AGRESSIVO;
+            };
+        }
+
+        Client.PreferenciaInvestimento preferencia() {
+            return switch (this) {
+                case CONSERVADOR -> Client.PreferenciaInvestimento.LIQUIDEZ;
+                case MODERADO -> Client.PreferenciaInvestimento.EQUILIBRADO;
+                case AGRESSIVO -> Client.PreferenciaInvestimento.RENTABILIDADE;
+            };
+        }
+    }
+
+    /**
+     * Soma uma aplicação aos agregados do cliente e recalcula o perfil
+     */
+    public void registrarAplicacao(Client client, Product.TipoProduto tipo, BigDecimal valor) {
+        movimentar(client, Categoria.de(tipo), valor);
+    }
+
+    /**
+     * Retira um resgate dos agregados do cliente e recalcula o perfil
+     */
+    public void registrarResgate(Client client, Product.TipoProduto tipo, BigDecimal valor) {
+        movimentar(client, Categoria.de(tipo), valor.negate());
+    }
+
+    /**
+     * Recalcula pontuação, perfil e preferência a partir dos agregados do cliente
+     */
+    public void aplicar(Client client) {
+        Categoria preferencia = preferencia(client);
+        int pontuacao = pontuar(client.getVolumeTotalInvestido(), valor(client.getFrequenciaMovimentacoes()), preferencia);
+
+        client.setPreferenciaInvestimento(preferencia.preferencia());
+        client.setPontuacaoRisco(pontuacao);
+        client.setPerfilRisco(perfil(pontuacao));
+    }
+
+    /**
+     * Pontuação ponderada de 0 a 100
+     *
+     * @param volume Volume total investido
+     * @param movimentacoes Quantidade de movimentações
+     * @param preferencia Categoria preferida
+     */
+    public int pontuar(BigDecimal volume, int movimentacoes, Categoria preferencia) {
+        double ponderado = pontosVolume(volume) / 40.0 * pesoVolume
+                + pontosFrequencia(movimentacoes) / 30.0 * pesoFrequencia
+                + pontosPreferencia(preferencia) / 30.0 * pesoPreferencia;
+        int pesos = pesoVolume + pesoFrequencia + pesoPreferencia;
+        return pesos <= 0 ? 0 : (int) Math.round(ponderado * 100 / pesos);
+    }
+
+    /**
+     * Classificação final: até 40 conservador, até 70 moderado, acima agressivo
+     */
+    public static Client.PerfilRisco perfil(int pontuacao) {
+        if (pontuacao <= 40) {
+            return Client.PerfilRisco.CONSERVADOR;
+        }
+        return pontuacao <= 70 ? Client.PerfilRisco.MODERADO : Client.PerfilRisco.AGRESSIVO;
+    }
+
+    static int pontosVolume(BigDecimal volume) {
+        if (volume == null || volume.compareTo(ATE_10_MIL) <= 0) {
+            return 10;
+        }
+        if (volume.compareTo(ATE_50_MIL) <= 0) {
+            return 20;
+        }
+        return volume.compareTo(ATE_100_MIL) <= 0 ? 30 : 40;
+    }
+
+    static int pontosFrequencia(int movimentacoes) {
+        if (movimentacoes <= 2) {
+            return 5;
+        }
+        if (movimentacoes <= 6) {
+            return 15;
+        }
+        return movimentacoes <= 12 ? 25 : 30;
+    }
+
+    static int pontosPreferencia(Categoria preferencia) {
+        return switch (preferencia) {
+            case CONSERVADOR -> 10;
+            case MODERADO -> 20;
+            case AGRESSIVO -> 30;
+        };
+    }
+
+    /**
+     * Categoria com maior volume ativo; sem volume, a preferência declarada
+     */
+    static Categoria preferencia(Client client) {
+        return preferencia(client.getVolumeConservador(), client.getVolumeModerado(), client.getVolumeAgressivo(),
+                client.getPreferenciaInvestimento());
+    }
+
+    static Categoria preferencia(BigDecimal volumeConservador, BigDecimal volumeModerado, BigDecimal volumeAgressivo,
+                                 Client.PreferenciaInvestimento declarada) {
+        BigDecimal conservador = valor(volumeConservador);
+        BigDecimal moderado = valor(volumeModerado);
+        BigDecimal agressivo = valor(volumeAgressivo);
+        if (conservador.signum() <= 0 && moderado.signum() <= 0 && agressivo.signum() <= 0) {
+            return Categoria.de(declarada);
+        }
+        if (agressivo.compareTo(moderado) > 0 && agressivo.compareTo(conservador) > 0) {
+            return Categoria.AGRESSIVO;
+        }
+        return moderado.compareTo(conservador) > 0 ? Categoria.MODERADO : Categoria.CONSERVADOR;
+    }
+
+    private void movimentar(Client client, Categoria categoria, BigDecimal valor) {
+        client.setVolumeTotalInvestido(naoNegativo(valor(client.getVolumeTotalInvestido()).add(valor)));
+        client.setFrequenciaMovimentacoes(valor(client.getFrequenciaMovimentacoes()) + 1);
+        switch (categoria) {
+            case CONSERVADOR -> client.setVolumeConservador(naoNegativo(valor(client.getVolumeConservador()).add(valor)));
+            case MODERADO -> client.setVolumeModerado(naoNegativo(valor(client.getVolumeModerado()).add(valor)));
+            case AGRESSIVO -> client.setVolumeAgressivo(naoNegativo(valor(client.getVolumeAgressivo()).add(valor)));
+        }
+        aplicar(client);
+    }
+
+    private static BigDecimal naoNegativo(BigDecimal valor) {
+        return valor.signum() < 0 ? BigDecimal.ZERO : valor;
+    }
+
+    private static BigDecimal valor(BigDecimal valor) {
+        return valor == null ? BigDecimal.ZERO : valor;
+    }
+
+    private static int valor(Integer valor) {
+        return valor == null ? 0 : valor;
+    }
+}
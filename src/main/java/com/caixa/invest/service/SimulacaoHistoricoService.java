@@ -0,0 +1,159 @@
+package com.caixa.invest.service;
+
+import com.caixa.invest.dto.response.SimulacaoHistoricoResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.agroal.api.AgroalDataSource;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.FlushModeType;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Histórico de simulações por cliente, paginado por cursor (dataSimulacao, id)
+ * em ordem decrescente. As consultas percorrem o índice
+ * idx_simulations_client_data_id e nunca usam OFFSET, então o custo de uma
+ * página não depende de quantas simulações o cliente já tem. As páginas são
+ * projetadas direto no DTO (com um único join para o nome do produto), em
+ * consultas somente leitura que não disparam flush do contexto de persistência.
+ */
+@ApplicationScoped
+public class SimulacaoHistoricoService {
+
+    private static final String SELECT_PROJECAO =
+            "select new com.caixa.invest.dto.response.SimulacaoHistoricoResponse("
+                    + "s.id, s.client.id, p.nome, s.valorInvestido, s.valorFinal, s.prazoMeses, s.dataSimulacao) "
+                    + "from Simulation s join s.product p where s.client.id = :clienteId ";
+
+    private static final String ORDEM = "order by s.dataSimulacao desc, s.id desc";
+
+    private static final String SQL_STREAM =
+            "SELECT s.id, s.client_id, p.nome, s.valor_investido, s.valor_final, s.prazo_meses, s.data_simulacao "
+                    + "FROM simulations s JOIN products p ON p.id = s.product_id "
+                    + "WHERE s.client_id = ? ORDER BY s.data_simulacao DESC, s.id DESC";
+
+    private static final int FETCH_SIZE = 500;
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    /**
+     * Posição de continuação da paginação: última simulação já entregue
+     */
+    public record Cursor(LocalDateTime dataSimulacao, Long id) {
+
+        public static Cursor de(SimulacaoHistoricoResponse ultima) {
+            return new Cursor(ultima.getDataSimulacao(), ultima.getId());
+        }
+
+        /**
+         * Decodifica o cursor opaco recebido na requisição
+         *
+         * @throws IllegalArgumentException se o cursor for inválido
+         */
+        public static Cursor decodificar(String valor) {
+            try {
+                String texto = new String(Base64.getUrlDecoder().decode(valor), StandardCharsets.UTF_8);
+                int separador = texto.lastIndexOf('|');
+                return new Cursor(LocalDateTime.parse(texto.substring(0, separador)),
+                        Long.parseLong(texto.substring(separador + 1)));
+            } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Cursor inválido");
+            }
+        }
+
+        public String codificar() {
+            String texto = dataSimulacao + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(texto.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Busca uma página do histórico do cliente
+     *
+     * @param clienteId ID do cliente
+     * @param apos Cursor da última simulação da página anterior (null para a primeira página)
+     * @param limite Tamanho máximo da página
+     * @return Simulações mais recentes primeiro
+     */
+    public List<SimulacaoHistoricoResponse> listar(Long clienteId, Cursor apos, int limite) {
+        TypedQuery<SimulacaoHistoricoResponse> query;
+        if (apos == null) {
+            query = entityManager.createQuery(SELECT_PROJECAO + ORDEM, SimulacaoHistoricoResponse.class);
+        } else {
+            query = entityManager.createQuery(SELECT_PROJECAO
+                            + "and (s.dataSimulacao < :data or (s.dataSimulacao = :data and s.id < :id)) " + ORDEM,
+                    SimulacaoHistoricoResponse.class)
+                    .setParameter("data", apos.dataSimulacao())
+                    .setParameter("id", apos.id());
+        }
+        return query.setParameter("clienteId", clienteId)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setFlushMode(FlushModeType.COMMIT)
+                .setMaxResults(limite)
+                .getResultList();
+    }
+
+    /**
+     * Escreve todo o histórico do cliente em NDJSON (um objeto JSON por linha),
+     * à medida que as linhas são lidas do cursor JDBC. A memória usada não
+     * depende do tamanho do histórico.
+     *
+     * @param clienteId ID do cliente
+     * @param out Saída da resposta
+     */
+    public void stream(Long clienteId, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(SimulacaoHistoricoResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SQL_STREAM,
+                     ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+
+            generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            generator.setRootValueSeparator(null);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setLong(1, clienteId);
+
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    writer.writeValue(generator, SimulacaoHistoricoResponse.builder()
+                            .id(rs.getLong(1))
+                            .clienteId(rs.getLong(2))
+                            .produto(rs.getString(3))
+                            .valorInvestido(rs.getBigDecimal(4))
+                            .valorFinal(rs.getBigDecimal(5))
+                            .prazoMeses(rs.getInt(6))
+                            .dataSimulacao(rs.getTimestamp(7).toLocalDateTime())
+                            .build());
+                    generator.writeRaw('\n');
+                }
+            }
+        } catch (SQLException e) {
+            throw new IOException("Falha ao ler histórico de simulações", e);
+        }
+    }
+}
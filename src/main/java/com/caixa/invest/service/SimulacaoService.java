@@ -0,0 +1,246 @@
+package com.caixa.invest.service;
+
+import com.caixa.invest.domain.Client;
+import com.caixa.invest.domain.Product;
+import com.caixa.invest.domain.Simulation;
+import com.caixa.invest.dto.request.SimulacaoRequest;
+import com.caixa.invest.dto.response.SimulacaoResponse;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@ApplicationScoped
+public class SimulacaoService {
+
+    private static final Set<Product.TipoProduto> ISENTOS_IR =
+            EnumSet.of(Product.TipoProduto.LCI, Product.TipoProduto.LCA, Product.TipoProduto.POUPANCA);
+
+    private static final BigDecimal ZERO_REAIS = BigDecimal.ZERO.setScale(2);
+
+    /**
+     * Abaixo deste tamanho o custo de distribuir o lote entre núcleos supera o do cálculo
+     */
+    private static final int LIMIAR_PARALELO = 64;
+
+    /**
+     * Alíquota regressiva de IR indexada pelo prazo em meses
+     * (até 6 meses 22,5%, até 12 meses 20%, até 24 meses 17,5%, acima 15%)
+     */
+    private static final BigDecimal[] ALIQUOTAS_IR = new BigDecimal[CompoundFactorTable.PRAZO_MAXIMO_MESES + 1];
+
+    static {
+        BigDecimal ate6 = new BigDecimal("0.225");
+        BigDecimal ate12 = new BigDecimal("0.20");
+        BigDecimal ate24 = new BigDecimal("0.175");
+        BigDecimal acima24 = new BigDecimal("0.15");
+        for (int meses = 0; meses < ALIQUOTAS_IR.length; meses++) {
+            if (meses <= 6) {
+                ALIQUOTAS_IR[meses] = ate6;
+            } else if (meses <= 12) {
+                ALIQUOTAS_IR[meses] = ate12;
+            } else if (meses <= 24) {
+                ALIQUOTAS_IR[meses] = ate24;
+            } else {
+                ALIQUOTAS_IR[meses] = acima24;
+            }
+        }
+    }
+
+    @Inject
+    ProductService productService;
+
+    @Inject
+    SimulationWriteBehind writeBehind;
+
+    /**
+     * Simula o investimento e devolve o resultado. A gravação da simulação
+     * é enfileirada e feita em lote fora do caminho da requisição.
+     *
+     * @param request Dados da simulação
+     * @return Produto validado e resultado calculado
+     */
+    public SimulacaoResponse simular(SimulacaoRequest request) {
+        Client client = Client.findById(request.getClienteId());
+        if (client == null) {
+            throw new NoSuchElementException("Cliente não encontrado");
+        }
+
+        Product product = selecionarProduto(request);
+        SimulacaoResponse.ResultadoSimulacao resultado =
+                calcular(product, request.getValor(), request.getPrazoMeses());
+        LocalDateTime agora = LocalDateTime.now();
+
+        writeBehind.enqueue(registro(client, product, request, resultado, agora));
+
+        return SimulacaoResponse.builder()
+                .produtoValidado(validado(product))
+                .resultadoSimulacao(resultado)
+                .dataSimulacao(agora)
+                .build();
+    }
+
+    /**
+     * Simula um lote de investimentos.
+     * Os produtos vêm do catálogo em memória, os clientes de todo o lote são
+     * resolvidos com uma única consulta e os cálculos são distribuídos entre os núcleos disponíveis.
+     *
+     * @param requests Itens do lote
+     * @return Resultados na mesma ordem dos itens recebidos
+     */
+    public List<SimulacaoResponse> simularLote(List<SimulacaoRequest> requests) {
+        int total = requests.size();
+        if (total == 0) {
+            return List.of();
+        }
+
+        Product.TipoProduto[] tipos = new Product.TipoProduto[total];
+        Set<Long> clienteIds = new HashSet<>();
+        for (int i = 0; i < total; i++) {
+            SimulacaoRequest request = requests.get(i);
+            tipos[i] = item(i, () -> tipoProduto(request.getTipoProduto()));
+            clienteIds.add(request.getClienteId());
+        }
+
+        Map<Long, Client> clientes = Client.<Client>list("id in ?1", clienteIds)
+                .stream()
+                .collect(Collectors.toMap(c -> c.id, c -> c));
+
+        Product[] produtos = new Product[total];
+        for (int i = 0; i < total; i++) {
+            SimulacaoRequest request = requests.get(i);
+            if (!clientes.containsKey(request.getClienteId())) {
+                throw new NoSuchElementException("Item " + i + ": Cliente não encontrado");
+            }
+            Product.TipoProduto tipo = tipos[i];
+            produtos[i] = item(i, () -> selecionarProduto(productService.findByType(tipo), request));
+        }
+
+        LocalDateTime agora = LocalDateTime.now();
+        SimulacaoResponse[] respostas = new SimulacaoResponse[total];
+        IntStream indices = IntStream.range(0, total);
+        if (total >= LIMIAR_PARALELO) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> respostas[i] = SimulacaoResponse.builder()
+                .produtoValidado(validado(produtos[i]))
+                .resultadoSimulacao(calcular(produtos[i], requests.get(i).getValor(), requests.get(i).getPrazoMeses()))
+                .dataSimulacao(agora)
+                .build());
+
+        for (int i = 0; i < total; i++) {
+            SimulacaoRequest request = requests.get(i);
+            writeBehind.enqueue(registro(clientes.get(request.getClienteId()), produtos[i], request,
+                    respostas[i].getResultadoSimulacao(), agora));
+        }
+
+        return Arrays.asList(respostas);
+    }
+
+    /**
+     * Seleciona, entre os produtos ativos do tipo solicitado, o de maior
+     * rentabilidade cujos limites de prazo e valor comportam a simulação
+     */
+    public Product selecionarProduto(SimulacaoRequest request) {
+        return selecionarProduto(productService.findByType(tipoProduto(request.getTipoProduto())), request);
+    }
+
+    Product selecionarProduto(List<Product> candidatos, SimulacaoRequest request) {
+        Product escolhido = null;
+        for (Product product : candidatos) {
+            if (aceita(product, request.getValor(), request.getPrazoMeses())
+                    && (escolhido == null || product.getRentabilidade().compareTo(escolhido.getRentabilidade()) > 0)) {
+                escolhido = product;
+            }
+        }
+        if (escolhido == null) {
+            throw new NoSuchElementException("Nenhum produto elegível para os parâmetros informados");
+        }
+        return escolhido;
+    }
+
+    /**
+     * Calcula valor final, rentabilidade efetiva, IR e valor líquido
+     * a partir da tabela de fatores pré-calculada da taxa do produto
+     *
+     * @param product Produto simulado
+     * @param valor Valor investido
+     * @param prazoMeses Prazo em meses
+     * @return Resultado da simulação
+     */
+    public SimulacaoResponse.ResultadoSimulacao calcular(Product product, BigDecimal valor, int prazoMeses) {
+        CompoundFactorTable tabela = CompoundFactorTable.of(product.getRentabilidade());
+
+        BigDecimal valorFinal = valor.multiply(tabela.fator(prazoMeses)).setScale(2, RoundingMode.HALF_EVEN);
+        BigDecimal impostoRenda = ISENTOS_IR.contains(product.getTipo())
+                ? ZERO_REAIS
+                : valorFinal.subtract(valor).multiply(ALIQUOTAS_IR[prazoMeses]).setScale(2, RoundingMode.HALF_EVEN);
+
+        return SimulacaoResponse.ResultadoSimulacao.builder()
+                .valorFinal(valorFinal)
+                .rentabilidadeEfetiva(tabela.rentabilidadeEfetiva(prazoMeses))
+                .prazoMeses(prazoMeses)
+                .impostoRenda(impostoRenda)
+                .valorLiquido(valorFinal.subtract(impostoRenda))
+                .build();
+    }
+
+    static Product.TipoProduto tipoProduto(String tipo) {
+        try {
+            return Product.TipoProduto.valueOf(tipo.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Tipo de produto inválido: " + tipo);
+        }
+    }
+
+    static SimulacaoResponse.ProdutoValidado validado(Product product) {
+        return SimulacaoResponse.ProdutoValidado.builder()
+                .id(product.id)
+                .nome(product.getNome())
+                .tipo(product.getTipo().name())
+                .rentabilidade(product.getRentabilidade())
+                .risco(product.getRisco().name())
+                .build();
+    }
+
+    private static Simulation registro(Client client, Product product, SimulacaoRequest request,
+                                       SimulacaoResponse.ResultadoSimulacao resultado, LocalDateTime agora) {
+        return Simulation.builder()
+                .client(client)
+                .product(product)
+                .valorInvestido(request.getValor())
+                .valorFinal(resultado.getValorFinal())
+                .rentabilidadeEfetiva(resultado.getRentabilidadeEfetiva())
+                .prazoMeses(resultado.getPrazoMeses())
+                .impostoRenda(resultado.getImpostoRenda())
+                .valorLiquido(resultado.getValorLiquido())
+                .dataSimulacao(agora)
+                .build();
+    }
+
+    /**
+     * Executa a etapa do item do lote prefixando o índice nas mensagens de erro
+     */
+    private static <T> T item(int indice, Supplier<T> etapa) {
+        try {
+            return etapa.get();
+        } catch (NoSuchElementException e) {
+            throw new NoSuchElementException("Item " + indice + ": " + e.getMessage());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Item " + indice + ": " + e.getMessage());
+        }
+    }
+
+    private static boolean aceita(Product product, BigDecimal valor, int prazoMeses) {
+        return (product.getPrazoMinimoMeses() == null || prazoMeses >= product.getPrazoMinimoMeses())
+                && (product.getPrazoMaximoMeses() == null || prazoMeses <= product.getPrazoMaximoMeses())
+                && (product.getValorMinimo() == null || valor.compareTo(product.getValorMinimo()) >= 0)
+                && (product.getValorMaximo() == null || valor.compareTo(product.getValorMaximo()) <= 0);
+    }
+}
@@ -0,0 +1,205 @@
+package com.caixa.invest.service;
+
+import com.caixa.invest.domain.Product;
+import com.caixa.invest.domain.Simulation;
+import com.caixa.invest.domain.SimulationDailyRollup;
+import com.caixa.invest.dto.response.SimulacaoPorProdutoDiaResponse;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.exception.ConstraintViolationException;
+import org.jboss.logging.Logger;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Consolidado diário de simulações por produto (tabela simulations_daily_rollup).
+ *
+ * O consolidado é atualizado de forma incremental, na mesma transação em que
+ * cada lote de simulações é gravado, e pode ser reconstruído a partir das
+ * simulações para carga inicial ou correção. Não há trava em memória: a linha
+ * (dia, produto) que ainda não existe é criada zerada numa transação própria,
+ * e a chave única resolve a corrida entre transações (de qualquer instância)
+ * que tentam criá-la ao mesmo tempo. A perdedora ignora a chave duplicada e
+ * todas somam na linha existente com um UPDATE atômico.
+ */
+@ApplicationScoped
+public class SimulationRollupService {
+
+    private static final Logger LOG = Logger.getLogger(SimulationRollupService.class);
+
+    @ConfigProperty(name = "simulacao.rollup.reconstrucao.janela-dias", defaultValue = "2")
+    int janelaReconstrucaoDias;
+
+    @Inject
+    EntityManager entityManager;
+
+    private record Chave(Long productId, LocalDate dia) {
+    }
+
+    /**
+     * Ordem das chaves ao somar: lotes concorrentes bloqueiam as linhas do
+     * consolidado sempre na mesma ordem e não entram em deadlock
+     */
+    private static final Comparator<Chave> ORDEM_CHAVES =
+            Comparator.comparing(Chave::dia).thenComparing(Chave::productId);
+
+    /**
+     * Soma as simulações do lote ao consolidado. Deve ser chamado dentro da
+     * transação que grava as simulações.
+     *
+     * @param lote Simulações sendo gravadas
+     */
+    public void registrar(List<Simulation> lote) {
+        Map<Chave, long[]> quantidades = new TreeMap<>(ORDEM_CHAVES);
+        Map<Chave, BigDecimal> somas = new HashMap<>();
+        for (Simulation simulation : lote) {
+            Chave chave = new Chave(simulation.getProduct().id, simulation.getDataSimulacao().toLocalDate());
+            quantidades.computeIfAbsent(chave, c -> new long[1])[0]++;
+            somas.merge(chave, simulation.getValorFinal(), BigDecimal::add);
+        }
+
+        quantidades.forEach((chave, quantidade) -> somar(chave, quantidade[0], somas.get(chave)));
+    }
+
+    /**
+     * Consulta o consolidado no intervalo de datas (inclusivo)
+     */
+    public List<SimulacaoPorProdutoDiaResponse> porProdutoDia(LocalDate inicio, LocalDate fim) {
+        List<Object[]> linhas = entityManager.createQuery(
+                        "select p.nome, r.dia, r.quantidade, r.somaValorFinal from SimulationDailyRollup r "
+                                + "join r.product p where r.dia between :inicio and :fim and r.quantidade > 0 "
+                                + "order by r.dia, p.nome",
+                        Object[].class)
+                .setParameter("inicio", inicio)
+                .setParameter("fim", fim)
+                .getResultList();
+
+        return linhas.stream()
+                .map(linha -> {
+                    Long quantidade = (Long) linha[2];
+                    BigDecimal soma = (BigDecimal) linha[3];
+                    return SimulacaoPorProdutoDiaResponse.builder()
+                            .produto((String) linha[0])
+                            .data((LocalDate) linha[1])
+                            .quantidadeSimulacoes(quantidade)
+                            .mediaValorFinal(soma.divide(BigDecimal.valueOf(quantidade), 2, RoundingMode.HALF_EVEN))
+                            .build();
+                })
+                .toList();
+    }
+
+    /**
+     * Recalcula o consolidado do intervalo (inclusivo) a partir das simulações gravadas
+     *
+     * @return Quantidade de linhas (dia, produto) geradas
+     */
+    public int reconstruir(LocalDate inicio, LocalDate fim) {
+        int[] linhas = new int[1];
+        QuarkusTransaction.requiringNew().run(() -> {
+            entityManager.createQuery("delete from SimulationDailyRollup r where r.dia between :inicio and :fim")
+                    .setParameter("inicio", inicio)
+                    .setParameter("fim", fim)
+                    .executeUpdate();
+
+            List<Object[]> agregados = entityManager.createQuery(
+                            "select s.product.id, cast(s.dataSimulacao as LocalDate), count(s), sum(s.valorFinal) "
+                                    + "from Simulation s where s.dataSimulacao >= :inicio and s.dataSimulacao < :fim "
+                                    + "group by s.product.id, cast(s.dataSimulacao as LocalDate)",
+                            Object[].class)
+                    .setParameter("inicio", inicio.atStartOfDay())
+                    .setParameter("fim", fim.plusDays(1).atStartOfDay())
+                    .getResultList();
+
+            for (Object[] agregado : agregados) {
+                entityManager.persist(SimulationDailyRollup.builder()
+                        .product(entityManager.getReference(Product.class, agregado[0]))
+                        .dia((LocalDate) agregado[1])
+                        .quantidade((Long) agregado[2])
+                        .somaValorFinal((BigDecimal) agregado[3])
+                        .build());
+            }
+            linhas[0] = agregados.size();
+        });
+        return linhas[0];
+    }
+
+    /**
+     * Reconstrução periódica dos últimos dias, para corrigir eventuais
+     * divergências do consolidado incremental. Desligada por padrão.
+     */
+    @Scheduled(cron = "${simulacao.rollup.reconstrucao.cron:off}", identity = "simulacao-rollup-reconstrucao")
+    void reconstruirJanelaRecente() {
+        LocalDate hoje = LocalDate.now();
+        int linhas = reconstruir(hoje.minusDays(janelaReconstrucaoDias), hoje);
+        LOG.infof("Consolidado de simulações reconstruído: %d linhas nos últimos %d dias", linhas, janelaReconstrucaoDias);
+    }
+
+    private void somar(Chave chave, long quantidade, BigDecimal soma) {
+        if (incrementar(chave, quantidade, soma) > 0) {
+            return;
+        }
+
+        criar(chave);
+        if (incrementar(chave, quantidade, soma) == 0) {
+            throw new IllegalStateException("Consolidado de simulações sem linha para o produto "
+                    + chave.productId() + " em " + chave.dia());
+        }
+    }
+
+    private int incrementar(Chave chave, long quantidade, BigDecimal soma) {
+        return entityManager.createQuery(
+                        "update SimulationDailyRollup r set r.quantidade = r.quantidade + :quantidade, "
+                                + "r.somaValorFinal = r.somaValorFinal + :soma "
+                                + "where r.product.id = :productId and r.dia = :dia")
+                .setParameter("quantidade", quantidade)
+                .setParameter("soma", soma)
+                .setParameter("productId", chave.productId())
+                .setParameter("dia", chave.dia())
+                .executeUpdate();
+    }
+
+    /**
+     * Cria a linha (dia, produto) zerada numa transação própria, já confirmada
+     * quando a transação do lote soma nela. Se outra transação criou a mesma
+     * linha antes, a violação da chave única é ignorada.
+     */
+    private void criar(Chave chave) {
+        try {
+            QuarkusTransaction.requiringNew().run(() -> {
+                entityManager.persist(SimulationDailyRollup.builder()
+                        .product(entityManager.getReference(Product.class, chave.productId()))
+                        .dia(chave.dia())
+                        .quantidade(0L)
+                        .somaValorFinal(BigDecimal.ZERO)
+                        .build());
+                entityManager.flush();
+            });
+        } catch (RuntimeException e) {
+            if (!chaveDuplicada(e)) {
+                throw e;
+            }
+            LOG.debugf("Linha do consolidado criada por outra transação: produto %d em %s",
+                    chave.productId(), chave.dia());
+        }
+    }
+
+    private static boolean chaveDuplicada(Throwable erro) {
+        for (Throwable causa = erro; causa != null; causa = causa.getCause()) {
+            if (causa instanceof ConstraintViolationException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
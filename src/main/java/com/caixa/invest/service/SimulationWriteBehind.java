@@ -0,0 +1,251 @@
+package com.caixa.invest.service;
+
+import com.caixa.invest.domain.Client;
+import com.caixa.invest.domain.Product;
+import com.caixa.invest.domain.Simulation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Persistência assíncrona (write-behind) das simulações.
+ *
+ * As simulações são enfileiradas em uma fila limitada e gravadas por uma thread
+ * dedicada em lotes, usando o batching JDBC do Hibernate
+ * (quarkus.hibernate-orm.jdbc.statement-batch-size) e a alocação de ids em bloco
+ * do sequence do PanacheEntity. Com a fila cheia a simulação é descartada e
+ * contabilizada em simulacoes.persistencia.descartadas, sem gravação no
+ * caminho da requisição; simulacao.persistencia.gravar-com-fila-cheia=true
+ * troca o descarte pela gravação síncrona no chamador. O consolidado diário por
+ * produto é atualizado na mesma transação de cada lote. Um lote recusado pelo
+ * banco é regravado uma simulação por transação, e só as recusadas se perdem.
+ */
+@ApplicationScoped
+public class SimulationWriteBehind {
+
+    private static final Logger LOG = Logger.getLogger(SimulationWriteBehind.class);
+
+    @ConfigProperty(name = "simulacao.persistencia.capacidade-fila", defaultValue = "10000")
+    int capacidadeFila;
+
+    @ConfigProperty(name = "simulacao.persistencia.tamanho-lote", defaultValue = "100")
+    int tamanhoLote;
+
+    @ConfigProperty(name = "simulacao.persistencia.intervalo-flush-ms", defaultValue = "500")
+    long intervaloFlushMs;
+
+    @ConfigProperty(name = "simulacao.persistencia.timeout-desligamento-ms", defaultValue = "10000")
+    long timeoutDesligamentoMs;
+
+    @ConfigProperty(name = "simulacao.persistencia.gravar-com-fila-cheia", defaultValue = "false")
+    boolean gravarComFilaCheia;
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    MeterRegistry registry;
+
+    @Inject
+    SimulationRollupService rollupService;
+
+    private BlockingQueue<Simulation> fila;
+    private final AtomicInteger pendentes = new AtomicInteger();
+    private volatile boolean ativo;
+    private Thread worker;
+
+    private Timer tempoFlush;
+    private Counter gravadas;
+    private Counter sincronas;
+    private Counter descartadas;
+    private Counter falhas;
+
+    void onStart(@Observes StartupEvent event) {
+        fila = new ArrayBlockingQueue<>(capacidadeFila);
+        registry.gauge("simulacoes.persistencia.fila", fila, BlockingQueue::size);
+        tempoFlush = registry.timer("simulacoes.persistencia.flush");
+        gravadas = registry.counter("simulacoes.persistencia.gravadas");
+        sincronas = registry.counter("simulacoes.persistencia.sincronas");
+        descartadas = registry.counter("simulacoes.persistencia.descartadas");
+        falhas = registry.counter("simulacoes.persistencia.falhas");
+
+        ativo = true;
+        worker = new Thread(this::executar, "simulacao-write-behind");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Drena a fila antes do encerramento da aplicação
+     */
+    void onStop(@Observes ShutdownEvent event) {
+        ativo = false;
+        if (worker == null) {
+            return;
+        }
+        try {
+            worker.join(timeoutDesligamentoMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!fila.isEmpty()) {
+            LOG.warnf("Encerrando com %d simulações não gravadas", fila.size());
+        }
+    }
+
+    /**
+     * Enfileira a simulação para gravação em lote. Com a fila cheia a
+     * simulação é descartada, ou gravada imediatamente em uma transação
+     * própria se simulacao.persistencia.gravar-com-fila-cheia estiver ligado.
+     * Depois do encerramento do worker a gravação é sempre imediata.
+     *
+     * @param simulation Simulação calculada (ainda não persistida)
+     */
+    public void enqueue(Simulation simulation) {
+        if (ativo && fila.offer(simulation)) {
+            pendentes.incrementAndGet();
+            return;
+        }
+        if (ativo && !gravarComFilaCheia) {
+            descartadas.increment();
+            return;
+        }
+        pendentes.incrementAndGet();
+        sincronas.increment();
+        gravar(List.of(simulation));
+    }
+
+    /**
+     * Grava imediatamente tudo o que estiver na fila e aguarda o lote em andamento
+     */
+    public void flush() {
+        List<Simulation> lote = new ArrayList<>();
+        fila.drainTo(lote);
+        if (!lote.isEmpty()) {
+            gravar(lote);
+        }
+        long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutDesligamentoMs);
+        while (pendentes.get() > 0 && System.nanoTime() < limite) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    /**
+     * Quantidade de simulações aguardando gravação
+     */
+    public int tamanhoFila() {
+        return fila.size();
+    }
+
+    private void executar() {
+        List<Simulation> lote = new ArrayList<>(tamanhoLote);
+        while (ativo) {
+            try {
+                Simulation primeira = fila.poll(intervaloFlushMs, TimeUnit.MILLISECONDS);
+                if (primeira == null) {
+                    continue;
+                }
+                lote.add(primeira);
+                completarLote(lote);
+                gravar(lote);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                ativo = false;
+            } catch (RuntimeException e) {
+                LOG.error("Falha inesperada na persistência assíncrona de simulações", e);
+            } finally {
+                lote.clear();
+            }
+        }
+
+        fila.drainTo(lote);
+        for (int inicio = 0; inicio < lote.size(); inicio += tamanhoLote) {
+            gravar(lote.subList(inicio, Math.min(inicio + tamanhoLote, lote.size())));
+        }
+    }
+
+    /**
+     * Completa o lote até o tamanho configurado ou até o fim do intervalo de flush
+     */
+    private void completarLote(List<Simulation> lote) throws InterruptedException {
+        long prazo = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(intervaloFlushMs);
+        while (lote.size() < tamanhoLote) {
+            fila.drainTo(lote, tamanhoLote - lote.size());
+            long restante = prazo - System.nanoTime();
+            if (lote.size() >= tamanhoLote || restante <= 0) {
+                return;
+            }
+            Simulation proxima = fila.poll(restante, TimeUnit.NANOSECONDS);
+            if (proxima == null) {
+                return;
+            }
+            lote.add(proxima);
+        }
+    }
+
+    private void gravar(List<Simulation> lote) {
+        long inicio = System.nanoTime();
+        try {
+            gravarTransacao(lote);
+            gravadas.increment(lote.size());
+        } catch (RuntimeException e) {
+            if (lote.size() == 1) {
+                descartarFalha(lote.get(0), e);
+            } else {
+                LOG.warnf(e, "Lote de %d simulações recusado; gravando uma a uma", lote.size());
+                lote.forEach(this::gravarIndividual);
+            }
+        } finally {
+            tempoFlush.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            pendentes.addAndGet(-lote.size());
+        }
+    }
+
+    private void gravarIndividual(Simulation simulation) {
+        try {
+            gravarTransacao(List.of(simulation));
+            gravadas.increment();
+        } catch (RuntimeException e) {
+            descartarFalha(simulation, e);
+        }
+    }
+
+    /**
+     * Grava as simulações e o consolidado numa transação. Os ids atribuídos
+     * por uma tentativa que falhou são descartados antes de gravar.
+     */
+    private void gravarTransacao(List<Simulation> lote) {
+        QuarkusTransaction.requiringNew().run(() -> {
+            rollupService.registrar(lote);
+            for (Simulation simulation : lote) {
+                simulation.id = null;
+                simulation.setClient(entityManager.getReference(Client.class, simulation.getClient().id));
+                simulation.setProduct(entityManager.getReference(Product.class, simulation.getProduct().id));
+                entityManager.persist(simulation);
+            }
+        });
+    }
+
+    private void descartarFalha(Simulation simulation, RuntimeException erro) {
+        falhas.increment();
+        LOG.errorf(erro, "Simulação descartada: cliente %d, produto %d, data %s",
+                simulation.getClient().id, simulation.getProduct().id, simulation.getDataSimulacao());
+    }
+}
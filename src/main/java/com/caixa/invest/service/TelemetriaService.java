@@ -0,0 +1,70 @@
+package com.caixa.invest.service;
+
+import com.caixa.invest.domain.TelemetryHistogram;
+import com.caixa.invest.dto.response.TelemetriaResponse;
+import com.caixa.invest.telemetry.LatencyHistogram;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Consulta da telemetria gravada pelo {@link com.caixa.invest.telemetry.TelemetryCollector}.
+ *
+ * Volumes, média e percentis saem da soma dos histogramas por serviço e minuto
+ * (no máximo 1440 linhas por serviço e dia), sem varrer as medições brutas.
+ */
+@ApplicationScoped
+public class TelemetriaService {
+
+    @Inject
+    EntityManager entityManager;
+
+    /**
+     * Quantidade de chamadas e tempos de resposta (média, p50, p95, p99 e máximo)
+     * por serviço no período (inclusivo)
+     */
+    public TelemetriaResponse consultar(LocalDate inicio, LocalDate fim) {
+        List<TelemetryHistogram> linhas = entityManager.createQuery(
+                        "select h from TelemetryHistogram h "
+                                + "where h.minuto >= :inicio and h.minuto < :fim and h.quantidade > 0",
+                        TelemetryHistogram.class)
+                .setParameter("inicio", inicio.atStartOfDay())
+                .setParameter("fim", fim.plusDays(1).atStartOfDay())
+                .getResultList();
+
+        Map<String, LatencyHistogram> porServico = new TreeMap<>();
+        for (TelemetryHistogram linha : linhas) {
+            porServico.computeIfAbsent(linha.getServiceName(), s -> new LatencyHistogram())
+                    .mesclar(LatencyHistogram.decodificar(linha.getBuckets()));
+        }
+
+        List<TelemetriaResponse.ServicoTelemetria> servicos = porServico.entrySet().stream()
+                .map(entry -> {
+                    LatencyHistogram histograma = entry.getValue();
+                    return TelemetriaResponse.ServicoTelemetria.builder()
+                            .nome(entry.getKey())
+                            .quantidadeChamadas(histograma.quantidade())
+                            .mediaTempoRespostaMs(emMillis(histograma.media()))
+                            .p50TempoRespostaMs(emMillis(histograma.percentil(50)))
+                            .p95TempoRespostaMs(emMillis(histograma.percentil(95)))
+                            .p99TempoRespostaMs(emMillis(histograma.percentil(99)))
+                            .maxTempoRespostaMs(emMillis(histograma.maximo()))
+                            .build();
+                })
+                .toList();
+
+        return TelemetriaResponse.builder()
+                .servicos(servicos)
+                .periodo(TelemetriaResponse.Periodo.builder().inicio(inicio).fim(fim).build())
+                .build();
+    }
+
+    private static long emMillis(long micros) {
+        return Math.round(micros / 1000.0);
+    }
+}
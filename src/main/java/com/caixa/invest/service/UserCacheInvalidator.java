@@ -0,0 +1,46 @@
+package com.caixa.invest.service;
+
+import com.caixa.invest.domain.User;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+/**
+ * Listener JPA de User que remove o usuário do users-cache quando ele é
+ * criado, alterado ou excluído. A remoção é repetida ao fim da transação para
+ * descartar uma cópia antiga lida por outra thread antes do commit.
+ */
+@ApplicationScoped
+public class UserCacheInvalidator {
+
+    @Inject
+    UserDirectory userDirectory;
+
+    @Inject
+    TransactionSynchronizationRegistry transacoes;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void alterado(User user) {
+        String username = user.getUsername();
+        userDirectory.invalidar(username);
+        if (transacoes.getTransactionStatus() == Status.STATUS_ACTIVE) {
+            transacoes.registerInterposedSynchronization(new Synchronization() {
+                @Override
+                public void beforeCompletion() {
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    userDirectory.invalidar(username);
+                }
+            });
+        }
+    }
+}
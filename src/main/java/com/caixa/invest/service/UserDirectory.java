@@ -0,0 +1,33 @@
+package com.caixa.invest.service;
+
+import com.caixa.invest.domain.User;
+import com.caixa.invest.security.UserSnapshot;
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.cache.CacheResult;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Consulta de usuários por username com cache (users-cache).
+ *
+ * Alterações feitas pela entidade User invalidam o cache via
+ * {@link UserCacheInvalidator}; atualizações em massa (JPQL) devem chamar
+ * {@link #invalidar(String)}.
+ */
+@ApplicationScoped
+public class UserDirectory {
+
+    /**
+     * Busca o usuário pelo username
+     *
+     * @return Cópia imutável do usuário, ou null se não existir
+     */
+    @CacheResult(cacheName = "users-cache")
+    public UserSnapshot buscar(String username) {
+        User user = User.find("username", username).firstResult();
+        return user == null ? null : UserSnapshot.de(user);
+    }
+
+    @CacheInvalidate(cacheName = "users-cache")
+    public void invalidar(String username) {
+    }
+}
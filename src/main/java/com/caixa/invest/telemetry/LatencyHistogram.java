@@ -0,0 +1,172 @@
+package com.caixa.invest.telemetry;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Histograma de latências com buckets logarítmicos (estilo HDR), em microssegundos.
+ *
+ * Cada potência de 2 é dividida em 32 sub-buckets, o que limita o erro relativo
+ * de qualquer percentil a ~3%. Histogramas são somáveis bucket a bucket, então
+ * os percentis de qualquer período saem da soma dos histogramas por minuto, sem
+ * reler as medições brutas. A forma codificada guarda só os buckets não vazios.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int EXPOENTE_MAXIMO = 40;
+    private static final long VALOR_MAXIMO = (1L << EXPOENTE_MAXIMO) - 1;
+    private static final int BUCKETS = (EXPOENTE_MAXIMO - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+    private static final byte VERSAO = 1;
+
+    private final long[] contagens = new long[BUCKETS];
+    private long quantidade;
+    private long soma;
+    private long maximo;
+
+    /**
+     * Registra uma latência em microssegundos. Valores negativos contam como zero.
+     */
+    public void registrar(long micros) {
+        long valor = Math.min(Math.max(micros, 0), VALOR_MAXIMO);
+        contagens[indice(valor)]++;
+        quantidade++;
+        soma += valor;
+        maximo = Math.max(maximo, valor);
+    }
+
+    /**
+     * Soma as contagens do outro histograma a este
+     */
+    public void mesclar(LatencyHistogram outro) {
+        for (int i = 0; i < BUCKETS; i++) {
+            contagens[i] += outro.contagens[i];
+        }
+        quantidade += outro.quantidade;
+        soma += outro.soma;
+        maximo = Math.max(maximo, outro.maximo);
+    }
+
+    public long quantidade() {
+        return quantidade;
+    }
+
+    public long soma() {
+        return soma;
+    }
+
+    public long maximo() {
+        return maximo;
+    }
+
+    public long media() {
+        return quantidade == 0 ? 0 : Math.round((double) soma / quantidade);
+    }
+
+    /**
+     * Menor valor (limite superior do bucket) que cobre o percentual de medições
+     *
+     * @param percentual Entre 0 e 100
+     * @return Latência em microssegundos (0 se o histograma estiver vazio)
+     */
+    public long percentil(double percentual) {
+        if (quantidade == 0) {
+            return 0;
+        }
+        long alvo = Math.max(1, (long) Math.ceil(percentual / 100.0 * quantidade));
+        long acumulado = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            acumulado += contagens[i];
+            if (acumulado >= alvo) {
+                return Math.min(limiteSuperior(i), maximo);
+            }
+        }
+        return maximo;
+    }
+
+    /**
+     * Forma compacta: versão, máximo, soma e pares (distância ao bucket anterior,
+     * contagem) dos buckets não vazios, todos em varint
+     */
+    public byte[] codificar() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        out.write(VERSAO);
+        escreverVarint(out, maximo);
+        escreverVarint(out, soma);
+        int anterior = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            if (contagens[i] != 0) {
+                escreverVarint(out, i - anterior);
+                escreverVarint(out, contagens[i]);
+                anterior = i;
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @throws IllegalArgumentException se os bytes não forem um histograma codificado
+     */
+    public static LatencyHistogram decodificar(byte[] bytes) {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        if (!in.hasRemaining() || in.get() != VERSAO) {
+            throw new IllegalArgumentException("Histograma em formato desconhecido");
+        }
+        LatencyHistogram histograma = new LatencyHistogram();
+        histograma.maximo = lerVarint(in);
+        histograma.soma = lerVarint(in);
+        int indice = 0;
+        while (in.hasRemaining()) {
+            indice += (int) lerVarint(in);
+            if (indice >= BUCKETS) {
+                throw new IllegalArgumentException("Histograma com bucket inválido");
+            }
+            long contagem = lerVarint(in);
+            histograma.contagens[indice] += contagem;
+            histograma.quantidade += contagem;
+        }
+        return histograma;
+    }
+
+    static int indice(long valor) {
+        if (valor < SUB_BUCKETS) {
+            return (int) valor;
+        }
+        int expoente = 63 - Long.numberOfLeadingZeros(valor);
+        int subBucket = (int) (valor >>> (expoente - SUB_BUCKET_BITS)) - SUB_BUCKETS;
+        return (expoente - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long limiteSuperior(int indice) {
+        if (indice < SUB_BUCKETS) {
+            return indice;
+        }
+        int expoente = indice / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long largura = 1L << (expoente - SUB_BUCKET_BITS);
+        return (SUB_BUCKETS + indice % SUB_BUCKETS) * largura + largura - 1;
+    }
+
+    private static void escreverVarint(ByteArrayOutputStream out, long valor) {
+        while ((valor & ~0x7FL) != 0) {
+            out.write((int) ((valor & 0x7F) | 0x80));
+            valor >>>= 7;
+        }
+        out.write((int) valor);
+    }
+
+    private static long lerVarint(ByteBuffer in) {
+        long valor = 0;
+        for (int deslocamento = 0; deslocamento < 64; deslocamento += 7) {
+            if (!in.hasRemaining()) {
+                throw new IllegalArgumentException("Histograma truncado");
+            }
+            byte b = in.get();
+            valor |= (long) (b & 0x7F) << deslocamento;
+            if ((b & 0x80) == 0) {
+                return valor;
+            }
+        }
+        throw new IllegalArgumentException("Histograma com varint inválido");
+    }
+}
@@ -0,0 +1,250 @@
+package com.caixa.invest.telemetry;
+
+import com.caixa.invest.domain.Telemetry;
+import com.caixa.invest.domain.TelemetryHistogram;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.exception.ConstraintViolationException;
+import org.jboss.logging.Logger;
+
+import java.lang.reflect.Method;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Coleta as medições de cada chamada à API em um buffer lock-free e as grava
+ * periodicamente na tabela telemetry, em lotes JDBC. Em seguida, numa
+ * transação separada, os histogramas de latência por serviço e minuto
+ * (telemetry_histogram) recebem as medições do lote. A trava de drenagem só
+ * vale nesta JVM; entre instâncias, a linha (serviço, minuto) que falta é
+ * criada zerada com a chave única resolvendo a corrida, e a mesclagem é feita
+ * com as linhas bloqueadas para escrita.
+ *
+ * O registro no caminho da requisição não aloca nem bloqueia; toda a conversão
+ * para entidades e o acesso ao banco acontecem na thread do agendador. A única
+ * alocação por requisição é a do {@link TelemetryFilter}, que guarda o instante
+ * de início como propriedade do contexto da requisição (um Long e a entrada no
+ * mapa de propriedades): é o único estado por requisição que o JAX-RS
+ * compartilha entre o filtro de entrada e o de saída, que podem rodar em
+ * threads diferentes.
+ */
+@ApplicationScoped
+public class TelemetryCollector {
+
+    private static final Logger LOG = Logger.getLogger(TelemetryCollector.class);
+
+    @ConfigProperty(name = "telemetria.buffer.capacidade", defaultValue = "65536")
+    int capacidade;
+
+    @ConfigProperty(name = "telemetria.flush.tamanho-lote", defaultValue = "1000")
+    int tamanhoLote;
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    MeterRegistry registry;
+
+    private final TelemetryEndpoints endpoints = new TelemetryEndpoints();
+    private final ReentrantLock drenagem = new ReentrantLock();
+    private TelemetryRingBuffer buffer;
+
+    private record Chave(String serviceName, LocalDateTime minuto) {
+    }
+
+    @PostConstruct
+    void init() {
+        buffer = new TelemetryRingBuffer(capacidade);
+        registry.gauge("telemetria.buffer.pendentes", buffer, TelemetryRingBuffer::pendentes);
+        FunctionCounter.builder("telemetria.buffer.descartados", buffer, TelemetryRingBuffer::descartados)
+                .register(registry);
+    }
+
+    /**
+     * Registra a chamada ao método de recurso. Não aloca e não bloqueia.
+     *
+     * @param recurso Classe do recurso JAX-RS
+     * @param metodo Método de recurso executado
+     * @param status Status HTTP da resposta
+     * @param duracaoNanos Tempo de resposta em nanossegundos
+     */
+    public void registrar(Class<?> recurso, Method metodo, int status, long duracaoNanos) {
+        buffer.registrar(endpoints.id(recurso, metodo), status, duracaoNanos, System.currentTimeMillis());
+    }
+
+    @Scheduled(every = "${telemetria.flush.intervalo:5s}", identity = "telemetria-flush",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void flushAgendado() {
+        flush();
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        flush();
+    }
+
+    /**
+     * Grava no banco tudo o que estiver no buffer
+     *
+     * @return Quantidade de medições gravadas
+     */
+    public int flush() {
+        drenagem.lock();
+        try {
+            int total = 0;
+            List<Telemetry> lote = new ArrayList<>(tamanhoLote);
+            Map<Chave, LatencyHistogram> histogramas = new HashMap<>();
+            while (buffer.drenar((endpoint, status, duracaoNanos, instanteMillis) -> {
+                Telemetry telemetry = telemetria(endpoint, status, duracaoNanos, instanteMillis);
+                lote.add(telemetry);
+                histogramas.computeIfAbsent(
+                                new Chave(telemetry.getServiceName(), minuto(instanteMillis)), c -> new LatencyHistogram())
+                        .registrar(TimeUnit.NANOSECONDS.toMicros(duracaoNanos));
+            }, tamanhoLote) > 0) {
+                gravar(lote, histogramas);
+                total += lote.size();
+                lote.clear();
+                histogramas.clear();
+            }
+            return total;
+        } finally {
+            drenagem.unlock();
+        }
+    }
+
+    private Telemetry telemetria(int endpoint, int status, long duracaoNanos, long instanteMillis) {
+        TelemetryEndpoints.Endpoint dados = endpoints.endpoint(endpoint);
+        return Telemetry.builder()
+                .serviceName(dados.serviceName())
+                .endpoint(dados.path())
+                .httpMethod(dados.httpMethod())
+                .httpStatus(status)
+                .responseTimeMs(TimeUnit.NANOSECONDS.toMillis(duracaoNanos))
+                .timestamp(LocalDateTime.ofInstant(Instant.ofEpochMilli(instanteMillis), ZoneId.systemDefault()))
+                .build();
+    }
+
+    /**
+     * Grava as medições e depois mescla os histogramas, em transações
+     * separadas: um conflito nos histogramas não descarta as medições
+     */
+    private void gravar(List<Telemetry> lote, Map<Chave, LatencyHistogram> histogramas) {
+        try {
+            QuarkusTransaction.requiringNew().run(() -> lote.forEach(entityManager::persist));
+        } catch (RuntimeException e) {
+            LOG.errorf(e, "Falha ao gravar lote de %d medições de telemetria", lote.size());
+        }
+
+        try {
+            criarHistogramasFaltantes(histogramas);
+            QuarkusTransaction.requiringNew().run(() -> mesclarHistogramas(histogramas));
+        } catch (RuntimeException e) {
+            LOG.errorf(e, "Falha ao mesclar %d histogramas de latência", histogramas.size());
+        }
+    }
+
+    /**
+     * Cria zeradas, cada uma na sua transação, as linhas (serviço, minuto) que
+     * ainda não existem. Se outra instância criou a mesma linha antes, a
+     * violação da chave única é ignorada.
+     */
+    private void criarHistogramasFaltantes(Map<Chave, LatencyHistogram> histogramas) {
+        Set<Chave> existentes = QuarkusTransaction.requiringNew().call(() -> existentes(histogramas.keySet()).keySet());
+        byte[] vazio = new LatencyHistogram().codificar();
+        for (Chave chave : histogramas.keySet()) {
+            if (existentes.contains(chave)) {
+                continue;
+            }
+            try {
+                QuarkusTransaction.requiringNew().run(() -> {
+                    entityManager.persist(TelemetryHistogram.builder()
+                            .serviceName(chave.serviceName())
+                            .minuto(chave.minuto())
+                            .quantidade(0L)
+                            .buckets(vazio)
+                            .build());
+                    entityManager.flush();
+                });
+            } catch (RuntimeException e) {
+                if (!chaveDuplicada(e)) {
+                    throw e;
+                }
+                LOG.debugf("Histograma criado por outra instância: %s em %s", chave.serviceName(), chave.minuto());
+            }
+        }
+    }
+
+    /**
+     * Soma os histogramas do lote aos já gravados para o mesmo serviço e
+     * minuto, com as linhas bloqueadas (PESSIMISTIC_WRITE) até o commit para
+     * que mesclagens concorrentes de outras instâncias não se sobrescrevam
+     */
+    private void mesclarHistogramas(Map<Chave, LatencyHistogram> histogramas) {
+        Map<Chave, TelemetryHistogram> existentes = existentes(histogramas.keySet(), LockModeType.PESSIMISTIC_WRITE);
+        histogramas.forEach((chave, histograma) -> {
+            TelemetryHistogram existente = existentes.get(chave);
+            if (existente == null) {
+                throw new IllegalStateException("Histograma sem linha para " + chave.serviceName() + " em " + chave.minuto());
+            }
+            LatencyHistogram mesclado = LatencyHistogram.decodificar(existente.getBuckets());
+            mesclado.mesclar(histograma);
+            existente.setQuantidade(mesclado.quantidade());
+            existente.setBuckets(mesclado.codificar());
+        });
+    }
+
+    private Map<Chave, TelemetryHistogram> existentes(Set<Chave> chaves) {
+        return existentes(chaves, LockModeType.NONE);
+    }
+
+    /**
+     * Linhas gravadas para as chaves, lidas em ordem de serviço e minuto
+     */
+    private Map<Chave, TelemetryHistogram> existentes(Set<Chave> chaves, LockModeType bloqueio) {
+        List<String> servicos = chaves.stream().map(Chave::serviceName).distinct().toList();
+        List<LocalDateTime> minutos = chaves.stream().map(Chave::minuto).distinct().toList();
+        Map<Chave, TelemetryHistogram> existentes = new HashMap<>();
+        entityManager.createQuery("select h from TelemetryHistogram h "
+                                + "where h.serviceName in :servicos and h.minuto in :minutos "
+                                + "order by h.serviceName, h.minuto",
+                        TelemetryHistogram.class)
+                .setParameter("servicos", servicos)
+                .setParameter("minutos", minutos)
+                .setLockMode(bloqueio)
+                .getResultList()
+                .forEach(h -> existentes.put(new Chave(h.getServiceName(), h.getMinuto()), h));
+        existentes.keySet().retainAll(chaves);
+        return existentes;
+    }
+
+    private static boolean chaveDuplicada(Throwable erro) {
+        for (Throwable causa = erro; causa != null; causa = causa.getCause()) {
+            if (causa instanceof ConstraintViolationException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static LocalDateTime minuto(long instanteMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(instanteMillis - instanteMillis % 60_000),
+                ZoneId.systemDefault());
+    }
+}
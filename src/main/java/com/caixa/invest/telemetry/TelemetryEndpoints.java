@@ -0,0 +1,97 @@
+package com.caixa.invest.telemetry;
+
+import jakarta.ws.rs.*;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Catálogo dos endpoints observados pela telemetria.
+ *
+ * Cada método de recurso recebe um id inteiro na primeira chamada; nas demais
+ * a busca por id não aloca. O nome do serviço é derivado do template do path,
+ * sem prefixos de versão e parâmetros (ex.: /v1/perfil-risco/{clienteId} → perfil-risco).
+ */
+public final class TelemetryEndpoints {
+
+    /**
+     * Metadados de um endpoint registrado
+     */
+    public record Endpoint(String serviceName, String path, String httpMethod) {
+    }
+
+    private final Map<Method, Integer> ids = new ConcurrentHashMap<>();
+    private final List<Endpoint> endpoints = new ArrayList<>();
+    private volatile Endpoint[] porId = new Endpoint[0];
+
+    /**
+     * Id do endpoint do método de recurso, registrando-o na primeira chamada
+     */
+    public int id(Class<?> recurso, Method metodo) {
+        Integer id = ids.get(metodo);
+        if (id != null) {
+            return id;
+        }
+        return registrar(recurso, metodo);
+    }
+
+    public Endpoint endpoint(int id) {
+        return porId[id];
+    }
+
+    private synchronized int registrar(Class<?> recurso, Method metodo) {
+        Integer existente = ids.get(metodo);
+        if (existente != null) {
+            return existente;
+        }
+
+        String path = juntar(valorPath(recurso.getAnnotation(Path.class)), valorPath(metodo.getAnnotation(Path.class)));
+        endpoints.add(new Endpoint(nomeServico(path), path, metodoHttp(metodo)));
+        porId = endpoints.toArray(new Endpoint[0]);
+
+        int id = endpoints.size() - 1;
+        ids.put(metodo, id);
+        return id;
+    }
+
+    /**
+     * Nome do serviço a partir do template do path: segmentos literais unidos por hífen,
+     * ignorando os prefixos "api" e "v1"
+     */
+    static String nomeServico(String path) {
+        StringBuilder nome = new StringBuilder();
+        for (String segmento : path.split("/")) {
+            if (segmento.isEmpty() || segmento.startsWith("{") || segmento.equals("api") || segmento.matches("v\\d+")) {
+                continue;
+            }
+            if (!nome.isEmpty()) {
+                nome.append('-');
+            }
+            nome.append(segmento);
+        }
+        return nome.isEmpty() ? "root" : nome.toString();
+    }
+
+    private static String valorPath(Path path) {
+        return path == null ? "" : path.value();
+    }
+
+    private static String juntar(String base, String sufixo) {
+        String path = ("/" + base + "/" + sufixo).replaceAll("/+", "/");
+        return path.length() > 1 && path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+
+    private static String metodoHttp(Method metodo) {
+        for (Annotation annotation : metodo.getAnnotations()) {
+            HttpMethod httpMethod = annotation.annotationType().getAnnotation(HttpMethod.class);
+            if (httpMethod != null) {
+                return httpMethod.value();
+            }
+        }
+        return "GET";
+    }
+}
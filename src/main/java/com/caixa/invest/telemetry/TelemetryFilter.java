@@ -0,0 +1,44 @@
+package com.caixa.invest.telemetry;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.container.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.ext.Provider;
+
+import java.lang.reflect.Method;
+
+/**
+ * Mede o tempo de resposta de cada método de recurso e entrega a medição ao
+ * {@link TelemetryCollector}.
+ *
+ * O instante de início vai como propriedade do contexto da requisição, o que
+ * aloca um Long por requisição: entrada e saída podem rodar em threads
+ * diferentes, então um ThreadLocal ou campo primitivo não serviria.
+ */
+@Provider
+public class TelemetryFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    static final String INICIO = TelemetryFilter.class.getName() + ".inicio";
+
+    @Context
+    ResourceInfo resourceInfo;
+
+    @Inject
+    TelemetryCollector collector;
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        requestContext.setProperty(INICIO, System.nanoTime());
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        Object inicio = requestContext.getProperty(INICIO);
+        Method metodo = resourceInfo.getResourceMethod();
+        if (inicio == null || metodo == null) {
+            return;
+        }
+        collector.registrar(resourceInfo.getResourceClass(), metodo, responseContext.getStatus(),
+                System.nanoTime() - (Long) inicio);
+    }
+}
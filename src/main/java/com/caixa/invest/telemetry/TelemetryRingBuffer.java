@@ -0,0 +1,115 @@
+package com.caixa.invest.telemetry;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Buffer circular lock-free (múltiplos produtores, um consumidor) para as
+ * medições de telemetria.
+ *
+ * Os campos de cada medição ficam em arrays primitivos pré-alocados, então
+ * registrar uma medição não aloca objetos nem bloqueia: o produtor reserva uma
+ * posição com CAS, grava os campos e publica a posição. Com o buffer cheio a
+ * medição é descartada e contabilizada em {@link #descartados()}.
+ */
+public final class TelemetryRingBuffer {
+
+    /**
+     * Recebe as medições drenadas do buffer, sem objetos intermediários
+     */
+    @FunctionalInterface
+    public interface Leitor {
+        void ler(int endpoint, int status, long duracaoNanos, long instanteMillis);
+    }
+
+    private final int capacidade;
+    private final int mascara;
+    private final int[] endpoints;
+    private final int[] status;
+    private final long[] duracoesNanos;
+    private final long[] instantesMillis;
+
+    /**
+     * Sequência publicada em cada posição (sequência + 1; zero = nunca escrita)
+     */
+    private final AtomicLongArray publicados;
+
+    private final AtomicLong cabeca = new AtomicLong();
+    private volatile long cauda;
+    private final LongAdder descartados = new LongAdder();
+
+    /**
+     * @param capacidade Quantidade de posições; arredondada para a próxima potência de 2
+     */
+    public TelemetryRingBuffer(int capacidade) {
+        this.capacidade = capacidade <= 2 ? 2 : Integer.highestOneBit(capacidade - 1) << 1;
+        this.mascara = this.capacidade - 1;
+        this.endpoints = new int[this.capacidade];
+        this.status = new int[this.capacidade];
+        this.duracoesNanos = new long[this.capacidade];
+        this.instantesMillis = new long[this.capacidade];
+        this.publicados = new AtomicLongArray(this.capacidade);
+    }
+
+    /**
+     * Registra uma medição. Pode ser chamado concorrentemente por qualquer thread.
+     *
+     * @return false se o buffer estava cheio e a medição foi descartada
+     */
+    public boolean registrar(int endpoint, int statusHttp, long duracaoNanos, long instanteMillis) {
+        long sequencia;
+        do {
+            sequencia = cabeca.get();
+            if (sequencia - cauda >= capacidade) {
+                descartados.increment();
+                return false;
+            }
+        } while (!cabeca.compareAndSet(sequencia, sequencia + 1));
+
+        int posicao = (int) sequencia & mascara;
+        endpoints[posicao] = endpoint;
+        status[posicao] = statusHttp;
+        duracoesNanos[posicao] = duracaoNanos;
+        instantesMillis[posicao] = instanteMillis;
+        publicados.lazySet(posicao, sequencia + 1);
+        return true;
+    }
+
+    /**
+     * Entrega ao leitor até {@code maximo} medições publicadas, em ordem.
+     * Deve ser chamado por um único consumidor por vez.
+     *
+     * @return Quantidade de medições lidas
+     */
+    public int drenar(Leitor leitor, int maximo) {
+        long posicaoLeitura = cauda;
+        int lidas = 0;
+        while (lidas < maximo) {
+            int posicao = (int) posicaoLeitura & mascara;
+            if (publicados.get(posicao) != posicaoLeitura + 1) {
+                break;
+            }
+            leitor.ler(endpoints[posicao], status[posicao], duracoesNanos[posicao], instantesMillis[posicao]);
+            posicaoLeitura++;
+            lidas++;
+        }
+        cauda = posicaoLeitura;
+        return lidas;
+    }
+
+    public int capacidade() {
+        return capacidade;
+    }
+
+    /**
+     * Medições registradas e ainda não drenadas (aproximado)
+     */
+    public long pendentes() {
+        return cabeca.get() - cauda;
+    }
+
+    public long descartados() {
+        return descartados.sum();
+    }
+}
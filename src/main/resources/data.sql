@@ -5,3 +5,18 @@
 INSERT INTO users (id, username, password, email, role, enabled) VALUES
 (NEXT VALUE FOR users_SEQ, 'admin', '$2a$12$k7ebzNvmKCDiKFwxZX0yhueJOtxxfjOL8/Q6rw1rcwobieWCc3Y7S', 'admin@caixa.com', 'ADMIN', true),
 (NEXT VALUE FOR users_SEQ, 'user', '$2a$12$k7ebzNvmKCDiKFwxZX0yhueJOtxxfjOL8/Q6rw1rcwobieWCc3Y7S', 'user@caixa.com', 'USER', true);
+
+-- Catálogo inicial de produtos
+INSERT INTO products (id, nome, tipo, rentabilidade, risco, prazo_minimo_meses, prazo_maximo_meses, valor_minimo, valor_maximo, ativo, liquidez_dias, descricao) VALUES
+(NEXT VALUE FOR products_SEQ, 'CDB Caixa 2026', 'CDB', 0.12, 'BAIXO', 6, 24, 1000.00, 1000000.00, true, 90, 'CDB com liquidez trimestral'),
+(NEXT VALUE FOR products_SEQ, 'LCI Caixa', 'LCI', 0.10, 'BAIXO', 12, 36, 5000.00, 1000000.00, true, 365, 'LCI isenta de imposto de renda'),
+(NEXT VALUE FOR products_SEQ, 'LCA Caixa', 'LCA', 0.095, 'BAIXO', 12, 36, 5000.00, 1000000.00, true, 365, 'LCA isenta de imposto de renda'),
+(NEXT VALUE FOR products_SEQ, 'Tesouro Selic 2029', 'TESOURO_DIRETO', 0.1075, 'BAIXO', 1, 60, 100.00, 2000000.00, true, 1, 'Título público pós-fixado'),
+(NEXT VALUE FOR products_SEQ, 'Fundo Renda Fixa Caixa', 'FUNDO_RENDA_FIXA', 0.11, 'MEDIO', 1, 120, 500.00, 5000000.00, true, 30, 'Fundo de renda fixa com liquidez D+30'),
+(NEXT VALUE FOR products_SEQ, 'Fundo Multimercado Caixa', 'FUNDO_MULTIMERCADO', 0.14, 'MEDIO', 6, 120, 1000.00, 5000000.00, true, 30, 'Fundo multimercado'),
+(NEXT VALUE FOR products_SEQ, 'Fundo Ações Caixa', 'FUNDO_ACOES', 0.18, 'ALTO', 12, 360, 1000.00, 5000000.00, true, 60, 'Fundo de ações com foco em longo prazo'),
+(NEXT VALUE FOR products_SEQ, 'Poupança Caixa', 'POUPANCA', 0.0617, 'BAIXO', 1, 360, 1.00, 10000000.00, true, 0, 'Caderneta de poupança');
+
+-- Cliente de exemplo
+INSERT INTO clients (id, nome, cpf, email, data_cadastro, volume_total_investido, frequencia_movimentacoes, preferencia_investimento, perfil_risco, pontuacao_risco, volume_conservador, volume_moderado, volume_agressivo) VALUES
+(NEXT VALUE FOR clients_SEQ, 'Cliente Exemplo', '12345678900', 'cliente@caixa.com', CURRENT_TIMESTAMP, 0, 0, 'EQUILIBRADO', 'CONSERVADOR', 35, 0, 0, 0);
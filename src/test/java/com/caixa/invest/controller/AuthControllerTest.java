@@ -149,4 +149,46 @@ class AuthControllerTest {
                 .body("message", notNullValue())
                 .body("message", notNullValue());
     }
+
+    @Test
+    void testLogoutRevogaToken() {
+        String token = given()
+                .contentType(ContentType.JSON)
+                .body("{\"username\":\"user\",\"password\":\"password123\"}")
+                .when()
+                .post("/auth/login")
+                .then()
+                .statusCode(200)
+                .extract().path("token");
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .when()
+                .get("/secure/profile")
+                .then()
+                .statusCode(200);
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .when()
+                .post("/auth/logout")
+                .then()
+                .statusCode(204);
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .when()
+                .get("/secure/profile")
+                .then()
+                .statusCode(401);
+    }
+
+    @Test
+    void testLogoutSemToken() {
+        given()
+                .when()
+                .post("/auth/logout")
+                .then()
+                .statusCode(401);
+    }
 }
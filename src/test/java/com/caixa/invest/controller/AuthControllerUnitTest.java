@@ -11,6 +11,9 @@ import jakarta.inject.Inject;
 import jakarta.ws.rs.core.Response;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -39,11 +42,12 @@ class AuthControllerUnitTest {
         user.setEmail("admin@caixa.com");
         user.setRole(User.Role.ADMIN);
 
-        when(authService.authenticate(request.getUsername(), request.getPassword())).thenReturn(user);
+        when(authService.authenticateAsync(request.getUsername(), request.getPassword()))
+                .thenReturn(CompletableFuture.completedFuture(user));
         when(tokenProvider.generateToken(any(User.class))).thenReturn("mock-jwt-token");
 
         // Act
-        Response response = authController.login(request);
+        Response response = authController.login(request).toCompletableFuture().join();
 
         // Assert
         assertEquals(200, response.getStatus());
@@ -54,7 +58,7 @@ class AuthControllerUnitTest {
         assertEquals("admin", authResponse.getUsername());
         assertEquals("ROLE_ADMIN", authResponse.getRole());
 
-        verify(authService, times(1)).authenticate(request.getUsername(), request.getPassword());
+        verify(authService, times(1)).authenticateAsync(request.getUsername(), request.getPassword());
         verify(tokenProvider, times(1)).generateToken(user);
     }
 
@@ -65,11 +69,11 @@ class AuthControllerUnitTest {
         request.setUsername("admin");
         request.setPassword("wrongpassword");
 
-        when(authService.authenticate(request.getUsername(), request.getPassword()))
-                .thenThrow(new SecurityException("Credenciais inválidas"));
+        when(authService.authenticateAsync(request.getUsername(), request.getPassword()))
+                .thenReturn(CompletableFuture.failedFuture(new SecurityException("Credenciais inválidas")));
 
         // Act
-        Response response = authController.login(request);
+        Response response = authController.login(request).toCompletableFuture().join();
 
         // Assert
         assertEquals(401, response.getStatus());
@@ -77,7 +81,7 @@ class AuthControllerUnitTest {
         AuthController.ErrorResponse errorResponse = (AuthController.ErrorResponse) response.getEntity();
         assertEquals("Credenciais inválidas", errorResponse.message);
 
-        verify(authService, times(1)).authenticate(request.getUsername(), request.getPassword());
+        verify(authService, times(1)).authenticateAsync(request.getUsername(), request.getPassword());
         verify(tokenProvider, never()).generateToken(any(User.class));
     }
 
@@ -93,11 +97,12 @@ class AuthControllerUnitTest {
         user.setEmail("user@caixa.com");
         user.setRole(User.Role.USER);
 
-        when(authService.authenticate(request.getUsername(), request.getPassword())).thenReturn(user);
+        when(authService.authenticateAsync(request.getUsername(), request.getPassword()))
+                .thenReturn(CompletableFuture.completedFuture(user));
         when(tokenProvider.generateToken(any(User.class))).thenReturn("user-jwt-token");
 
         // Act
-        Response response = authController.login(request);
+        Response response = authController.login(request).toCompletableFuture().join();
 
         // Assert
         assertEquals(200, response.getStatus());
@@ -105,4 +110,23 @@ class AuthControllerUnitTest {
         assertEquals("ROLE_USER", authResponse.getRole());
         assertEquals("user", authResponse.getUsername());
     }
+
+    @Test
+    void testLoginServicoSaturado() {
+        // Arrange
+        LoginRequest request = new LoginRequest();
+        request.setUsername("user");
+        request.setPassword("password123");
+
+        when(authService.authenticateAsync(request.getUsername(), request.getPassword()))
+                .thenReturn(CompletableFuture.failedFuture(new RejectedExecutionException()));
+
+        // Act
+        Response response = authController.login(request).toCompletableFuture().join();
+
+        // Assert
+        assertEquals(503, response.getStatus());
+        assertNotNull(response.getHeaderString("Retry-After"));
+        verify(tokenProvider, never()).generateToken(any(User.class));
+    }
 }
@@ -0,0 +1,92 @@
+package com.caixa.invest.controller;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@QuarkusTest
+class ExportacaoControllerTest {
+
+    @Test
+    void testExportaCsvComprimido() throws IOException {
+        byte[] corpo = given()
+            .header("Authorization", "Bearer " + login("admin"))
+            .queryParam("dataInicio", "2025-10-01")
+            .queryParam("dataFim", "2025-10-31")
+        .when()
+            .get("/v1/exportacao/telemetria")
+        .then()
+            .statusCode(200)
+            .contentType("application/gzip")
+            .header("Content-Disposition", containsString("telemetria-2025-10-01-2025-10-31.csv.gz"))
+            .extract().asByteArray();
+
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(corpo))) {
+            String csv = new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(csv.startsWith("id,servico,endpoint,metodo,status,tempoRespostaMs,sucesso,dataHora\n"));
+        }
+    }
+
+    @Test
+    void testParametrosInvalidos() {
+        String token = login("admin");
+
+        given()
+            .header("Authorization", "Bearer " + token)
+            .queryParam("dataInicio", "2025-10-01")
+        .when()
+            .get("/v1/exportacao/simulacoes")
+        .then()
+            .statusCode(400);
+
+        given()
+            .header("Authorization", "Bearer " + token)
+            .queryParam("dataInicio", "2025-10-01")
+            .queryParam("dataFim", "2025-10-31")
+            .queryParam("formato", "xml")
+        .when()
+            .get("/v1/exportacao/simulacoes")
+        .then()
+            .statusCode(400);
+
+        given()
+            .header("Authorization", "Bearer " + token)
+            .queryParam("dataInicio", "2025-10-01")
+            .queryParam("dataFim", "2025-10-31")
+        .when()
+            .get("/v1/exportacao/usuarios")
+        .then()
+            .statusCode(400);
+    }
+
+    @Test
+    void testExportacaoExigeAdmin() {
+        given()
+            .header("Authorization", "Bearer " + login("user"))
+            .queryParam("dataInicio", "2025-10-01")
+            .queryParam("dataFim", "2025-10-31")
+        .when()
+            .get("/v1/exportacao/simulacoes")
+        .then()
+            .statusCode(403);
+    }
+
+    private static String login(String username) {
+        return given()
+            .contentType("application/json")
+            .body("{\"username\":\"" + username + "\",\"password\":\"password123\"}")
+        .when()
+            .post("/auth/login")
+        .then()
+            .statusCode(200)
+            .extract().path("token");
+    }
+}
@@ -0,0 +1,65 @@
+package com.caixa.invest.controller;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+
+@QuarkusTest
+class ImportacaoControllerTest {
+
+    @Test
+    void testImportaCsvComRelatorio() {
+        given()
+            .header("Authorization", "Bearer " + login("admin"))
+            .contentType("text/csv")
+            .body("nome,tipo,rentabilidade,risco\nPoupança Importada,POUPANCA,0.06,BAIXO\nSem tipo,,0.06,BAIXO\n")
+        .when()
+            .post("/v1/importacao/produtos")
+        .then()
+            .statusCode(200)
+            .body("entidade", is("PRODUTOS"))
+            .body("linhasLidas", is(2))
+            .body("importadas", is(1))
+            .body("rejeitadas", is(1))
+            .body("erros[0].linha", is(3))
+            .body("erros[0].mensagem", is("tipo é obrigatório"))
+            .body("linhasPorSegundo", greaterThanOrEqualTo(0));
+    }
+
+    @Test
+    void testEntidadeInvalida() {
+        given()
+            .header("Authorization", "Bearer " + login("admin"))
+            .contentType("application/x-ndjson")
+            .body("{}\n")
+        .when()
+            .post("/v1/importacao/usuarios")
+        .then()
+            .statusCode(400);
+    }
+
+    @Test
+    void testImportacaoExigeAdmin() {
+        given()
+            .header("Authorization", "Bearer " + login("user"))
+            .contentType("text/csv")
+            .body("nome,cpf,email\n")
+        .when()
+            .post("/v1/importacao/clientes")
+        .then()
+            .statusCode(403);
+    }
+
+    private static String login(String username) {
+        return given()
+            .contentType("application/json")
+            .body("{\"username\":\"" + username + "\",\"password\":\"password123\"}")
+        .when()
+            .post("/auth/login")
+        .then()
+            .statusCode(200)
+            .extract().path("token");
+    }
+}
@@ -0,0 +1,140 @@
+package com.caixa.invest.controller;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+
+@QuarkusTest
+public class InvestimentoControllerTest {
+
+    private static final String APLICACAO_FUNDO_ACOES =
+            "{\"clienteId\":1,\"produtoId\":%d,\"valor\":150000.00,\"prazoMeses\":24}";
+
+    @Test
+    public void testAplicacaoEResgateAtualizamPerfil() {
+        String token = login();
+
+        Integer id = given()
+            .header("Authorization", "Bearer " + token)
+            .contentType("application/json")
+            .body(aplicacaoFundoAcoes(token))
+        .when()
+            .post("/v1/investimentos")
+        .then()
+            .statusCode(201)
+            .body("tipo", is("FUNDO_ACOES"))
+            .body("status", is("ATIVO"))
+            .extract().path("id");
+
+        given()
+            .header("Authorization", "Bearer " + token)
+        .when()
+            .get("/v1/perfil-risco/1")
+        .then()
+            .statusCode(200)
+            .body("clienteId", is(1))
+            .body("perfil", is("AGRESSIVO"));
+
+        given()
+            .header("Authorization", "Bearer " + token)
+        .when()
+            .post("/v1/investimentos/" + id + "/resgate")
+        .then()
+            .statusCode(200)
+            .body("status", is("RESGATADO"));
+
+        given()
+            .header("Authorization", "Bearer " + token)
+        .when()
+            .post("/v1/investimentos/" + id + "/resgate")
+        .then()
+            .statusCode(400);
+    }
+
+    @Test
+    public void testCarteiraTrazInvestimentosAtivos() {
+        String token = login();
+
+        Integer id = given()
+            .header("Authorization", "Bearer " + token)
+            .contentType("application/json")
+            .body(aplicacaoFundoAcoes(token).replace("150000.00", "2000.00"))
+        .when()
+            .post("/v1/investimentos")
+        .then()
+            .statusCode(201)
+            .extract().path("id");
+
+        given()
+            .header("Authorization", "Bearer " + token)
+        .when()
+            .get("/v1/investimentos/1/carteira")
+        .then()
+            .statusCode(200)
+            .body("clienteId", is(1))
+            .body("investimentos.id", hasItem(id))
+            .body("investimentos.status", everyItem(is("ATIVO")));
+
+        given()
+            .header("Authorization", "Bearer " + token)
+        .when()
+            .get("/v1/investimentos/1")
+        .then()
+            .statusCode(200)
+            .body("id", hasItem(id));
+    }
+
+    @Test
+    public void testAplicacaoForaDosLimitesDoProduto() {
+        String token = login();
+
+        given()
+            .header("Authorization", "Bearer " + token)
+            .contentType("application/json")
+            .body(aplicacaoFundoAcoes(token).replace("\"prazoMeses\":24", "\"prazoMeses\":6"))
+        .when()
+            .post("/v1/investimentos")
+        .then()
+            .statusCode(400);
+    }
+
+    @Test
+    public void testPerfilClienteInexistente() {
+        given()
+            .header("Authorization", "Bearer " + login())
+        .when()
+            .get("/v1/perfil-risco/999999")
+        .then()
+            .statusCode(404);
+    }
+
+    /**
+     * Os ids do catálogo inicial vêm do sequence (alocação em blocos), então o
+     * produto é localizado pelo tipo
+     */
+    private static String aplicacaoFundoAcoes(String token) {
+        Integer produtoId = given()
+            .header("Authorization", "Bearer " + token)
+        .when()
+            .get("/api/products/tipo/FUNDO_ACOES")
+        .then()
+            .statusCode(200)
+            .extract().path("[0].id");
+        return APLICACAO_FUNDO_ACOES.formatted(produtoId);
+    }
+
+    private static String login() {
+        return given()
+            .contentType("application/json")
+            .body("{\"username\":\"admin\",\"password\":\"password123\"}")
+        .when()
+            .post("/auth/login")
+        .then()
+            .statusCode(200)
+            .extract().path("token");
+    }
+}
@@ -3,27 +3,213 @@ package com.caixa.invest.controller;
 import io.quarkus.test.junit.QuarkusTest;
 import org.junit.jupiter.api.Test;
 import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
 
 @QuarkusTest
 public class ProductControllerTest {
 
+    private static final String PRODUTO_FUNDO = "{\"nome\":\"Fundo Teste Cache\",\"tipo\":\"FUNDO\","
+            + "\"rentabilidade\":0.09,\"risco\":\"MEDIO\",\"prazoMinimoMeses\":1,\"prazoMaximoMeses\":60,"
+            + "\"valorMinimo\":100.00,\"valorMaximo\":100000.00,\"liquidezDias\":30}";
+
     @Test
     public void testGetProductsAuthorized() {
-        String token = given()
+        String token = login("admin");
+
+        given()
+            .header("Authorization", "Bearer " + token)
+        .when()
+            .get("/api/products/all")
+        .then()
+            .statusCode(200);
+    }
+
+    @Test
+    public void testRecarregarCatalogo() {
+        String token = login("admin");
+
+        given()
+            .header("Authorization", "Bearer " + token)
+        .when()
+            .post("/api/products/recarregar")
+        .then()
+            .statusCode(200)
+            .body("versao", greaterThan(0));
+    }
+
+    @Test
+    public void testAlteracoesInvalidamCaches() {
+        String token = login("admin");
+
+        // Preenche os caches antes da alteração
+        given().header("Authorization", "Bearer " + token).get("/api/products/tipo/FUNDO").then().statusCode(200);
+        given().header("Authorization", "Bearer " + token).get("/api/products/risco/ALTO").then().statusCode(200);
+
+        Integer id = given()
+            .header("Authorization", "Bearer " + token)
             .contentType("application/json")
-            .body("{\"username\":\"admin\",\"password\":\"password123\"}")
+            .body(PRODUTO_FUNDO)
         .when()
-            .post("/auth/login")
+            .post("/api/products")
+        .then()
+            .statusCode(201)
+            .body("ativo", is(true))
+            .extract().path("id");
+
+        given()
+            .header("Authorization", "Bearer " + token)
+        .when()
+            .get("/api/products/tipo/FUNDO")
         .then()
             .statusCode(200)
-            .extract().path("token");
+            .body("nome", hasItem("Fundo Teste Cache"));
 
         given()
             .header("Authorization", "Bearer " + token)
+            .contentType("application/json")
+            .body(PRODUTO_FUNDO.replace("\"MEDIO\"", "\"ALTO\""))
         .when()
-            .get("/api/products/all")
+            .put("/api/products/" + id)
         .then()
-            .statusCode(200);
+            .statusCode(200)
+            .body("risco", is("ALTO"));
+
+        given()
+            .header("Authorization", "Bearer " + token)
+        .when()
+            .get("/api/products/risco/ALTO")
+        .then()
+            .statusCode(200)
+            .body("nome", hasItem("Fundo Teste Cache"));
+
+        given()
+            .header("Authorization", "Bearer " + token)
+        .when()
+            .delete("/api/products/" + id)
+        .then()
+            .statusCode(204);
+
+        given()
+            .header("Authorization", "Bearer " + token)
+        .when()
+            .get("/api/products/tipo/FUNDO")
+        .then()
+            .statusCode(200)
+            .body("nome", not(hasItem("Fundo Teste Cache")));
+
+        given()
+            .header("Authorization", "Bearer " + token)
+        .when()
+            .get("/api/products/" + id)
+        .then()
+            .statusCode(200)
+            .body("ativo", is(false));
+    }
+
+    @Test
+    public void testEtagRetorna304SemAlteracao() {
+        String token = login("admin");
+
+        String etag = given()
+            .header("Authorization", "Bearer " + token)
+        .when()
+            .get("/api/products/tipo/CDB")
+        .then()
+            .statusCode(200)
+            .header("ETag", notNullValue())
+            .extract().header("ETag");
+
+        given()
+            .header("Authorization", "Bearer " + token)
+            .header("If-None-Match", etag)
+        .when()
+            .get("/api/products/tipo/CDB")
+        .then()
+            .statusCode(304)
+            .header("ETag", is(etag));
+
+        given()
+            .header("Authorization", "Bearer " + token)
+            .header("If-None-Match", etag)
+        .when()
+            .get("/api/products/tipo/LCI")
+        .then()
+            .statusCode(200)
+            .header("ETag", not(etag));
+    }
+
+    @Test
+    public void testPaginacaoPorCursor() {
+        String token = login("admin");
+
+        String cursor = given()
+            .header("Authorization", "Bearer " + token)
+        .when()
+            .get("/api/products?size=2")
+        .then()
+            .statusCode(200)
+            .body("page", is(0))
+            .header("X-Proximo-Cursor", notNullValue())
+            .extract().header("X-Proximo-Cursor");
+
+        given()
+            .header("Authorization", "Bearer " + token)
+        .when()
+            .get("/api/products?size=2&after=" + cursor)
+        .then()
+            .statusCode(200)
+            .body("page", is(1))
+            .body("items[0].id", greaterThan(Integer.parseInt(cursor)));
+    }
+
+    @Test
+    public void testCriarProdutoSemPermissao() {
+        given()
+            .header("Authorization", "Bearer " + login("user"))
+            .contentType("application/json")
+            .body(PRODUTO_FUNDO)
+        .when()
+            .post("/api/products")
+        .then()
+            .statusCode(403);
+    }
+
+    @Test
+    public void testCriarProdutoComLimitesInvalidos() {
+        given()
+            .header("Authorization", "Bearer " + login("admin"))
+            .contentType("application/json")
+            .body(PRODUTO_FUNDO.replace("\"prazoMinimoMeses\":1", "\"prazoMinimoMeses\":90"))
+        .when()
+            .post("/api/products")
+        .then()
+            .statusCode(400);
+    }
+
+    @Test
+    public void testAtualizarProdutoInexistente() {
+        given()
+            .header("Authorization", "Bearer " + login("admin"))
+            .contentType("application/json")
+            .body(PRODUTO_FUNDO)
+        .when()
+            .put("/api/products/999999")
+        .then()
+            .statusCode(404);
+    }
+
+    private static String login(String username) {
+        return given()
+            .contentType("application/json")
+            .body("{\"username\":\"" + username + "\",\"password\":\"password123\"}")
+        .when()
+            .post("/auth/login")
+        .then()
+            .statusCode(200)
+            .extract().path("token");
     }
 }
@@ -0,0 +1,69 @@
+package com.caixa.invest.controller;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+
+@QuarkusTest
+class RecomendacaoControllerTest {
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        token = given()
+            .contentType("application/json")
+            .body("{\"username\":\"user\",\"password\":\"password123\"}")
+        .when()
+            .post("/auth/login")
+        .then()
+            .statusCode(200)
+            .extract().path("token");
+    }
+
+    @Test
+    void testConservadorSoRecebeRiscoBaixo() {
+        given()
+            .header("Authorization", "Bearer " + token)
+        .when()
+            .get("/v1/produtos-recomendados/conservador")
+        .then()
+            .statusCode(200)
+            .header("ETag", notNullValue())
+            .body("risco", everyItem(is("BAIXO")))
+            .body("nome", hasItem("Poupança Caixa"));
+    }
+
+    @Test
+    void testEtagRetorna304() {
+        String etag = given()
+            .header("Authorization", "Bearer " + token)
+        .when()
+            .get("/v1/produtos-recomendados/AGRESSIVO")
+        .then()
+            .statusCode(200)
+            .body("[0].risco", is("ALTO"))
+            .extract().header("ETag");
+
+        given()
+            .header("Authorization", "Bearer " + token)
+            .header("If-None-Match", etag)
+        .when()
+            .get("/v1/produtos-recomendados/AGRESSIVO")
+        .then()
+            .statusCode(304);
+    }
+
+    @Test
+    void testPerfilInvalido() {
+        given()
+            .header("Authorization", "Bearer " + token)
+        .when()
+            .get("/v1/produtos-recomendados/ousado")
+        .then()
+            .statusCode(400);
+    }
+}
@@ -0,0 +1,184 @@
+package com.caixa.invest.controller;
+
+import com.caixa.invest.domain.Client;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+
+@QuarkusTest
+class SimulacaoControllerTest {
+
+    private String token;
+    private Long clienteId;
+
+    @BeforeEach
+    void setUp() {
+        token = given()
+            .contentType("application/json")
+            .body("{\"username\":\"user\",\"password\":\"password123\"}")
+        .when()
+            .post("/auth/login")
+        .then()
+            .statusCode(200)
+            .extract().path("token");
+
+        clienteId = ((Client) Client.findAll().firstResult()).id;
+    }
+
+    @Test
+    void testSimularInvestimento() {
+        given()
+            .header("Authorization", "Bearer " + token)
+            .contentType("application/json")
+            .body("{\"clienteId\":" + clienteId + ",\"valor\":10000.00,\"prazoMeses\":12,\"tipoProduto\":\"CDB\"}")
+        .when()
+            .post("/v1/simular-investimento")
+        .then()
+            .statusCode(200)
+            .body("produtoValidado.tipo", is("CDB"))
+            .body("resultadoSimulacao.valorFinal", is(11200.0f))
+            .body("resultadoSimulacao.prazoMeses", is(12))
+            .body("dataSimulacao", notNullValue());
+    }
+
+    @Test
+    void testSimularSemProdutoElegivel() {
+        given()
+            .header("Authorization", "Bearer " + token)
+            .contentType("application/json")
+            .body("{\"clienteId\":" + clienteId + ",\"valor\":10.00,\"prazoMeses\":12,\"tipoProduto\":\"CDB\"}")
+        .when()
+            .post("/v1/simular-investimento")
+        .then()
+            .statusCode(404);
+    }
+
+    @Test
+    void testSimularRequisicaoInvalida() {
+        given()
+            .header("Authorization", "Bearer " + token)
+            .contentType("application/json")
+            .body("{\"clienteId\":" + clienteId + ",\"valor\":10000.00,\"prazoMeses\":0,\"tipoProduto\":\"CDB\"}")
+        .when()
+            .post("/v1/simular-investimento")
+        .then()
+            .statusCode(400);
+    }
+
+    @Test
+    void testSimularSemToken() {
+        given()
+            .contentType("application/json")
+            .body("{\"clienteId\":1,\"valor\":10000.00,\"prazoMeses\":12,\"tipoProduto\":\"CDB\"}")
+        .when()
+            .post("/v1/simular-investimento")
+        .then()
+            .statusCode(401);
+    }
+
+    @Test
+    void testSimularLote() {
+        String item = "{\"clienteId\":" + clienteId + ",\"valor\":10000.00,\"prazoMeses\":%d,\"tipoProduto\":\"%s\"}";
+
+        given()
+            .header("Authorization", "Bearer " + token)
+            .contentType("application/json")
+            .body("[" + String.format(item, 12, "CDB") + "," + String.format(item, 36, "FUNDO_ACOES") + "]")
+        .when()
+            .post("/v1/simular-investimento/lote")
+        .then()
+            .statusCode(200)
+            .body("size()", is(2))
+            .body("[0].produtoValidado.tipo", is("CDB"))
+            .body("[1].produtoValidado.tipo", is("FUNDO_ACOES"))
+            .body("[1].resultadoSimulacao.prazoMeses", is(36));
+    }
+
+    @Test
+    void testSimularLoteVazio() {
+        given()
+            .header("Authorization", "Bearer " + token)
+            .contentType("application/json")
+            .body("[]")
+        .when()
+            .post("/v1/simular-investimento/lote")
+        .then()
+            .statusCode(400);
+    }
+
+    @Test
+    void testHistoricoSimulacoes() {
+        given()
+            .header("Authorization", "Bearer " + token)
+            .queryParam("clienteId", clienteId)
+            .queryParam("limite", 10)
+        .when()
+            .get("/v1/simulacoes")
+        .then()
+            .statusCode(200)
+            .body("size()", lessThanOrEqualTo(10));
+    }
+
+    @Test
+    void testHistoricoCursorInvalido() {
+        given()
+            .header("Authorization", "Bearer " + token)
+            .queryParam("clienteId", clienteId)
+            .queryParam("cursor", "invalido")
+        .when()
+            .get("/v1/simulacoes")
+        .then()
+            .statusCode(400);
+    }
+
+    @Test
+    void testHistoricoStream() {
+        given()
+            .header("Authorization", "Bearer " + token)
+            .queryParam("clienteId", clienteId)
+        .when()
+            .get("/v1/simulacoes/stream")
+        .then()
+            .statusCode(200)
+            .contentType("application/x-ndjson");
+    }
+
+    @Test
+    void testSimulacoesPorProdutoDia() {
+        given()
+            .header("Authorization", "Bearer " + token)
+            .queryParam("dataInicio", "2025-10-01")
+            .queryParam("dataFim", "2025-10-31")
+        .when()
+            .get("/v1/simulacoes/por-produto-dia")
+        .then()
+            .statusCode(200);
+    }
+
+    @Test
+    void testSimulacoesPorProdutoDiaPeriodoInvalido() {
+        given()
+            .header("Authorization", "Bearer " + token)
+            .queryParam("dataInicio", "2025-10-31")
+            .queryParam("dataFim", "2025-10-01")
+        .when()
+            .get("/v1/simulacoes/por-produto-dia")
+        .then()
+            .statusCode(400);
+    }
+
+    @Test
+    void testReconstruirConsolidadoExigeAdmin() {
+        given()
+            .header("Authorization", "Bearer " + token)
+            .queryParam("dataInicio", "2025-10-01")
+            .queryParam("dataFim", "2025-10-31")
+        .when()
+            .post("/v1/simulacoes/por-produto-dia/reconstruir")
+        .then()
+            .statusCode(403);
+    }
+}
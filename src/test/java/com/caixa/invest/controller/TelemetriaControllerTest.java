@@ -0,0 +1,79 @@
+package com.caixa.invest.controller;
+
+import com.caixa.invest.telemetry.TelemetryCollector;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+
+@QuarkusTest
+class TelemetriaControllerTest {
+
+    @Inject
+    TelemetryCollector collector;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        token = given()
+            .contentType("application/json")
+            .body("{\"username\":\"user\",\"password\":\"password123\"}")
+        .when()
+            .post("/auth/login")
+        .then()
+            .statusCode(200)
+            .extract().path("token");
+    }
+
+    @Test
+    void testChamadasRegistradasNaTelemetria() {
+        given()
+            .header("Authorization", "Bearer " + token)
+        .when()
+            .get("/api/products/all")
+        .then()
+            .statusCode(200);
+
+        collector.flush();
+        String hoje = LocalDate.now().toString();
+
+        given()
+            .header("Authorization", "Bearer " + token)
+            .queryParam("inicio", hoje)
+            .queryParam("fim", hoje)
+        .when()
+            .get("/v1/telemetria")
+        .then()
+            .statusCode(200)
+            .body("servicos.nome", hasItems("products-all", "auth-login"))
+            .body("servicos.find { it.nome == 'products-all' }.quantidadeChamadas", greaterThanOrEqualTo(1))
+            .body("servicos.find { it.nome == 'products-all' }.p99TempoRespostaMs", notNullValue())
+            .body("servicos.find { it.nome == 'products-all' }.maxTempoRespostaMs", notNullValue())
+            .body("periodo.inicio", is(hoje));
+    }
+
+    @Test
+    void testTelemetriaSemPeriodo() {
+        given()
+            .header("Authorization", "Bearer " + token)
+        .when()
+            .get("/v1/telemetria")
+        .then()
+            .statusCode(400);
+    }
+
+    @Test
+    void testTelemetriaSemAutenticacao() {
+        given()
+        .when()
+            .get("/v1/telemetria")
+        .then()
+            .statusCode(401);
+    }
+}
@@ -67,4 +67,20 @@ class InvestmentEnhancedTest {
         assertEquals(Investment.StatusInvestimento.VENCIDO, investment.getStatus());
         assertTrue(investment.getData().isBefore(LocalDate.now()));
     }
+
+    @Test
+    void testToStringEEqualsIgnoramCliente() {
+        Client client = Client.builder().nome("Cliente").build();
+        client.getInvestments().add(new Investment());
+
+        Investment investment = new Investment();
+        investment.setValor(BigDecimal.TEN);
+        investment.setClient(client);
+        Investment semCliente = new Investment();
+        semCliente.setValor(BigDecimal.TEN);
+
+        assertFalse(investment.toString().contains("Cliente"));
+        assertEquals(semCliente, investment);
+        assertEquals(semCliente.hashCode(), investment.hashCode());
+    }
 }
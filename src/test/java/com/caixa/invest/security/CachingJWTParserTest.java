@@ -0,0 +1,72 @@
+package com.caixa.invest.security;
+
+import io.smallrye.jwt.auth.principal.DefaultJWTParser;
+import io.smallrye.jwt.auth.principal.ParseException;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CachingJWTParserTest {
+
+    private DefaultJWTParser delegate;
+    private CachingJWTParser parser;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(DefaultJWTParser.class);
+        parser = new CachingJWTParser();
+        parser.delegate = delegate;
+        parser.tamanhoMaximo = 100;
+        parser.init();
+    }
+
+    @Test
+    void testTokenVerificadoUmaVez() throws ParseException {
+        JsonWebToken jwt = token("a.b.c", agoraSegundos() + 3600);
+        when(delegate.parse("a.b.c")).thenReturn(jwt);
+
+        assertSame(jwt, parser.parse("a.b.c"));
+        assertSame(jwt, parser.parse("a.b.c"));
+
+        verify(delegate, times(1)).parse("a.b.c");
+    }
+
+    @Test
+    void testTokenExpiradoNaoVemDoCache() throws ParseException {
+        JsonWebToken jwt = token("x.y.z", agoraSegundos() - 1);
+        when(delegate.parse("x.y.z")).thenReturn(jwt);
+
+        parser.parse("x.y.z");
+        parser.parse("x.y.z");
+
+        verify(delegate, times(2)).parse("x.y.z");
+    }
+
+    @Test
+    void testTokenRevogado() throws ParseException {
+        JsonWebToken jwt = token("r.s.t", agoraSegundos() + 3600);
+        when(delegate.parse("r.s.t")).thenReturn(jwt);
+        parser.parse("r.s.t");
+
+        parser.revogar(jwt);
+
+        assertTrue(parser.revogado("r.s.t"));
+        ParseException exception = assertThrows(ParseException.class, () -> parser.parse("r.s.t"));
+        assertEquals("Token revogado", exception.getMessage());
+        assertFalse(parser.revogado("outro.token.qualquer"));
+    }
+
+    private static JsonWebToken token(String raw, long exp) {
+        JsonWebToken jwt = mock(JsonWebToken.class);
+        when(jwt.getRawToken()).thenReturn(raw);
+        when(jwt.getExpirationTime()).thenReturn(exp);
+        return jwt;
+    }
+
+    private static long agoraSegundos() {
+        return System.currentTimeMillis() / 1000;
+    }
+}
@@ -1,5 +1,6 @@
 package com.caixa.invest.security;
 
+import at.favre.lib.crypto.bcrypt.BCrypt;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.Test;
@@ -77,4 +78,21 @@ class PasswordEncoderTest {
         assertTrue(passwordEncoder.matches(password, encoded));
         assertFalse(passwordEncoder.matches("p@$$w0rd", encoded));
     }
+
+    @Test
+    void testNeedsRehashComCustoDiferente() {
+        String custoBaixo = BCrypt.withDefaults().hashToString(4, "senha".toCharArray());
+
+        assertTrue(passwordEncoder.needsRehash(custoBaixo));
+        assertTrue(passwordEncoder.matches("senha", custoBaixo));
+        assertFalse(passwordEncoder.needsRehash(passwordEncoder.encode("senha")));
+    }
+
+    @Test
+    void testCustoDoHash() {
+        assertEquals(12, PasswordEncoder.custo("$2a$12$k7ebzNvmKCDiKFwxZX0yhueJOtxxfjOL8/Q6rw1rcwobieWCc3Y7S"));
+        assertEquals(4, PasswordEncoder.custo("$2b$04$abc"));
+        assertEquals(-1, PasswordEncoder.custo("texto-simples"));
+        assertEquals(-1, PasswordEncoder.custo(null));
+    }
 }
@@ -1,7 +1,9 @@
 package com.caixa.invest.service;
 
+import at.favre.lib.crypto.bcrypt.BCrypt;
 import com.caixa.invest.domain.User;
 import com.caixa.invest.security.JwtTokenProvider;
+import io.quarkus.narayana.jta.QuarkusTransaction;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.InjectMock;
 import jakarta.inject.Inject;
@@ -66,4 +68,23 @@ class AuthServiceTest {
             authService.authenticate("admin", null);
         });
     }
+
+    @Test
+    void testAuthenticateAtualizaHashComCustoDiferente() {
+        QuarkusTransaction.requiringNew().run(() -> User.builder()
+                .username("custo_baixo")
+                .email("custo_baixo@test.com")
+                .password(BCrypt.withDefaults().hashToString(4, "password123".toCharArray()))
+                .role(User.Role.USER)
+                .enabled(true)
+                .build()
+                .persist());
+
+        authService.authenticate("custo_baixo", "password123");
+
+        String hash = QuarkusTransaction.requiringNew().call(() ->
+                authService.findByUsername("custo_baixo").getPassword());
+        assertTrue(hash.startsWith("$2a$12$"));
+        assertNotNull(authService.authenticate("custo_baixo", "password123"));
+    }
 }
@@ -8,6 +8,8 @@ import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CompletionException;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -80,6 +82,33 @@ class AuthServiceUnitTest {
         assertEquals("Usuário desabilitado", exception.getMessage());
     }
 
+    @Test
+    void testAuthenticateAsyncSuccess() {
+        // Arrange
+        when(passwordEncoder.matches("password123", "$2a$12$k7ebzNvmKCDiKFwxZX0yhueJOtxxfjOL8/Q6rw1rcwobieWCc3Y7S"))
+                .thenReturn(true);
+
+        // Act
+        User user = authService.authenticateAsync("admin", "password123").toCompletableFuture().join();
+
+        // Assert
+        assertEquals("admin", user.getUsername());
+    }
+
+    @Test
+    void testAuthenticateAsyncWrongPassword() {
+        // Arrange
+        when(passwordEncoder.matches("wrongpassword", "$2a$12$k7ebzNvmKCDiKFwxZX0yhueJOtxxfjOL8/Q6rw1rcwobieWCc3Y7S"))
+                .thenReturn(false);
+
+        // Act & Assert
+        CompletionException exception = assertThrows(CompletionException.class, () ->
+                authService.authenticateAsync("admin", "wrongpassword").toCompletableFuture().join());
+
+        assertInstanceOf(SecurityException.class, exception.getCause());
+        assertEquals("Usuário ou senha inválidos", exception.getCause().getMessage());
+    }
+
     @Test
     void testFindByUsername() {
         // Act
@@ -0,0 +1,65 @@
+package com.caixa.invest.service;
+
+import com.caixa.invest.domain.Investment;
+import com.caixa.invest.domain.Product;
+import com.caixa.invest.dto.response.CarteiraResponse;
+import com.caixa.invest.dto.response.InvestimentoResponse;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CarteiraServiceTest {
+
+    private static final LocalDate HOJE = LocalDate.of(2025, 6, 1);
+
+    private static InvestimentoResponse posicao(long id, String valor, String taxa, LocalDate data, Integer prazoMeses) {
+        return new InvestimentoResponse(id, Product.TipoProduto.CDB, new BigDecimal(valor), new BigDecimal(taxa),
+                data, prazoMeses, Investment.StatusInvestimento.ATIVO);
+    }
+
+    @Test
+    void testUmAnoCapitalizaTaxaAnual() {
+        BigDecimal atual = CarteiraService.valorAtual(posicao(1, "10000.00", "0.12", HOJE.minusDays(365), 24), HOJE);
+
+        assertEquals(new BigDecimal("11200.00"), atual);
+    }
+
+    @Test
+    void testAplicacaoDeHojeValeOValorAplicado() {
+        assertEquals(new BigDecimal("5000.00"),
+                CarteiraService.valorAtual(posicao(1, "5000.00", "0.10", HOJE, 12), HOJE));
+    }
+
+    @Test
+    void testVencidoParaDeRenderNoVencimento() {
+        LocalDate data = HOJE.minusYears(3);
+        BigDecimal noVencimento = CarteiraService.valorAtual(posicao(1, "1000.00", "0.10", data, 12), data.plusMonths(12));
+        BigDecimal hoje = CarteiraService.valorAtual(posicao(1, "1000.00", "0.10", data, 12), HOJE);
+
+        assertEquals(noVencimento, hoje);
+    }
+
+    @Test
+    void testTotaisDaCarteira() {
+        CarteiraResponse carteira = CarteiraService.avaliar(1L, List.of(
+                posicao(1, "10000.00", "0.12", HOJE.minusDays(365), 24),
+                posicao(2, "5000.00", "0.10", HOJE, 12)), HOJE);
+
+        assertEquals(2, carteira.getQuantidadeInvestimentos());
+        assertEquals(new BigDecimal("15000.00"), carteira.getValorInvestido());
+        assertEquals(new BigDecimal("16200.00"), carteira.getValorAtual());
+        assertEquals(new BigDecimal("1200.00"), carteira.getRendimento());
+        assertEquals(HOJE, carteira.getDataReferencia());
+        assertEquals(new BigDecimal("11200.00"), carteira.getInvestimentos().get(0).getValorAtual());
+        assertEquals("CDB", carteira.getInvestimentos().get(0).getTipo());
+    }
+
+    @Test
+    void testTabelaCompartilhadaPorTaxa() {
+        assertSame(DailyFactorTable.of(new BigDecimal("0.12")), DailyFactorTable.of(new BigDecimal("0.1200")));
+    }
+}
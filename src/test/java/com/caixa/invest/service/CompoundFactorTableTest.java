@@ -0,0 +1,47 @@
+package com.caixa.invest.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompoundFactorTableTest {
+
+    @Test
+    void testFatorDozeMesesIgualTaxaAnual() {
+        CompoundFactorTable tabela = CompoundFactorTable.of(new BigDecimal("0.12"));
+
+        assertEquals(0, tabela.fator(12).compareTo(new BigDecimal("1.12")));
+        assertEquals(new BigDecimal("0.1200"), tabela.rentabilidadeEfetiva(12));
+    }
+
+    @Test
+    void testFatorPrazoZero() {
+        CompoundFactorTable tabela = CompoundFactorTable.of(new BigDecimal("0.10"));
+
+        assertEquals(0, tabela.fator(0).compareTo(BigDecimal.ONE));
+        assertEquals(new BigDecimal("0.0000"), tabela.rentabilidadeEfetiva(0));
+    }
+
+    @Test
+    void testFatorCrescenteComPrazo() {
+        CompoundFactorTable tabela = CompoundFactorTable.of(new BigDecimal("0.08"));
+
+        assertTrue(tabela.fator(24).compareTo(tabela.fator(12)) > 0);
+        assertEquals(0, tabela.fator(24).compareTo(new BigDecimal("1.1664")));
+    }
+
+    @Test
+    void testTabelaCompartilhadaPorTaxa() {
+        assertSame(CompoundFactorTable.of(new BigDecimal("0.15")), CompoundFactorTable.of(new BigDecimal("0.15")));
+    }
+
+    @Test
+    void testPrazoForaDoIntervalo() {
+        CompoundFactorTable tabela = CompoundFactorTable.of(new BigDecimal("0.12"));
+
+        assertThrows(IllegalArgumentException.class, () -> tabela.fator(CompoundFactorTable.PRAZO_MAXIMO_MESES + 1));
+        assertThrows(IllegalArgumentException.class, () -> tabela.fator(-1));
+    }
+}
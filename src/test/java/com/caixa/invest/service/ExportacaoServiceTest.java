@@ -0,0 +1,141 @@
+package com.caixa.invest.service;
+
+import com.caixa.invest.domain.Client;
+import com.caixa.invest.domain.Product;
+import com.caixa.invest.domain.Simulation;
+import com.caixa.invest.domain.Telemetry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class ExportacaoServiceTest {
+
+    private static final LocalDate DIA = LocalDate.of(2024, 3, 10);
+
+    @Inject
+    ExportacaoService exportacaoService;
+
+    @Inject
+    SimulationWriteBehind writeBehind;
+
+    private static List<String> linhas(StreamingOutput body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.write(out);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+        }
+    }
+
+    @Test
+    void testExportaSimulacoesDoPeriodoEmCsv() throws IOException {
+        Client client = QuarkusTransaction.requiringNew().call(() -> {
+            Client novo = Client.builder()
+                    .nome("Cliente Exportação")
+                    .cpf(UUID.randomUUID().toString().substring(0, 11))
+                    .email("exportacao@caixa.com")
+                    .build();
+            novo.persist();
+            return novo;
+        });
+        Product product = Product.findAll().firstResult();
+
+        for (LocalDateTime data : List.of(DIA.atTime(9, 0), DIA.atTime(23, 59), DIA.plusDays(1).atStartOfDay())) {
+            writeBehind.enqueue(Simulation.builder()
+                    .client(client)
+                    .product(product)
+                    .valorInvestido(new BigDecimal("1000.00"))
+                    .valorFinal(new BigDecimal("1100.00"))
+                    .rentabilidadeEfetiva(new BigDecimal("0.1000"))
+                    .prazoMeses(12)
+                    .dataSimulacao(data)
+                    .build());
+        }
+        writeBehind.flush();
+
+        List<String> linhas = linhas(exportacaoService.exportar(
+                ExportacaoService.Tabela.SIMULACOES, ExportacaoService.Formato.CSV, DIA, DIA));
+
+        assertTrue(linhas.get(0).startsWith("id,clienteId,produtoId,produto,valorInvestido"));
+        List<String> doCliente = linhas.stream().skip(1).filter(l -> l.split(",")[1].equals(client.id.toString())).toList();
+        assertEquals(2, doCliente.size());
+        assertTrue(doCliente.get(0).endsWith(DIA.atTime(9, 0).toString()));
+    }
+
+    @Test
+    void testExportaTelemetriaEmNdjson() throws IOException {
+        QuarkusTransaction.requiringNew().run(() -> Telemetry.builder()
+                .serviceName("exportacao-teste")
+                .endpoint("/v1/teste")
+                .httpMethod("GET")
+                .httpStatus(200)
+                .responseTimeMs(42L)
+                .timestamp(DIA.atTime(12, 0))
+                .build()
+                .persist());
+
+        List<String> linhas = linhas(exportacaoService.exportar(
+                ExportacaoService.Tabela.TELEMETRIA, ExportacaoService.Formato.NDJSON, DIA, DIA));
+
+        assertTrue(linhas.stream().anyMatch(l -> l.contains("\"servico\":\"exportacao-teste\"")
+                && l.contains("\"tempoRespostaMs\":42") && l.contains("\"sucesso\":true")));
+    }
+
+    @Test
+    void testLimiteDeExportacoesSimultaneas() throws IOException {
+        StreamingOutput primeira = exportacaoService.exportar(
+                ExportacaoService.Tabela.TELEMETRIA, ExportacaoService.Formato.CSV, DIA, DIA);
+        StreamingOutput segunda = exportacaoService.exportar(
+                ExportacaoService.Tabela.TELEMETRIA, ExportacaoService.Formato.CSV, DIA, DIA);
+
+        assertThrows(RejectedExecutionException.class, () -> exportacaoService.exportar(
+                ExportacaoService.Tabela.TELEMETRIA, ExportacaoService.Formato.CSV, DIA, DIA));
+
+        linhas(primeira);
+        linhas(segunda);
+        assertFalse(linhas(exportacaoService.exportar(
+                ExportacaoService.Tabela.TELEMETRIA, ExportacaoService.Formato.CSV, DIA, DIA)).isEmpty());
+    }
+
+    @Test
+    void testVagaDevolvidaSemEscreverOCorpo() throws IOException {
+        ExportacaoService.Exportacao primeira = exportacaoService.exportar(
+                ExportacaoService.Tabela.TELEMETRIA, ExportacaoService.Formato.CSV, DIA, DIA);
+        ExportacaoService.Exportacao segunda = exportacaoService.exportar(
+                ExportacaoService.Tabela.TELEMETRIA, ExportacaoService.Formato.CSV, DIA, DIA);
+
+        primeira.liberar();
+        primeira.liberar();
+        ExportacaoService.Exportacao terceira = exportacaoService.exportar(
+                ExportacaoService.Tabela.TELEMETRIA, ExportacaoService.Formato.CSV, DIA, DIA);
+        assertThrows(RejectedExecutionException.class, () -> exportacaoService.exportar(
+                ExportacaoService.Tabela.TELEMETRIA, ExportacaoService.Formato.CSV, DIA, DIA));
+
+        linhas(segunda);
+        segunda.liberar();
+        terceira.liberar();
+    }
+
+    @Test
+    void testCampoCsv() {
+        assertEquals("simples", ExportacaoService.campoCsv("simples"));
+        assertEquals("\"a,b\"", ExportacaoService.campoCsv("a,b"));
+        assertEquals("\"diz \"\"oi\"\"\"", ExportacaoService.campoCsv("diz \"oi\""));
+    }
+}
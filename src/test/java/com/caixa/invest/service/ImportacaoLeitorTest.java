@@ -0,0 +1,106 @@
+package com.caixa.invest.service;
+
+import com.caixa.invest.domain.Client;
+import com.caixa.invest.domain.Investment;
+import com.caixa.invest.dto.request.ClienteImportacaoRequest;
+import com.caixa.invest.dto.request.InvestimentoImportacaoRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImportacaoLeitorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private <T> ImportacaoLeitor<T> leitor(ImportacaoService.Formato formato, String conteudo, Class<T> tipo) {
+        return new ImportacaoLeitor<>(formato,
+                new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8)), objectMapper, tipo);
+    }
+
+    @Test
+    void testCamposComAspas() {
+        assertEquals(List.of("a", "b, c", "d \"e\"", ""), ImportacaoLeitor.campos("a,\"b, c\",\"d \"\"e\"\"\",", ','));
+        assertEquals(List.of("1", "2"), ImportacaoLeitor.campos(" 1 ; 2 ", ';'));
+        assertThrows(IllegalArgumentException.class, () -> ImportacaoLeitor.campos("a,\"b", ','));
+    }
+
+    @Test
+    void testCsvComCabecalho() throws IOException {
+        String csv = "\uFEFFclienteId;produtoId;valor;prazoMeses;data;status\n"
+                + "1;7;1500.50;12;2025-01-15;RESGATADO\n"
+                + "\n"
+                + "2;3;200;6;;\n";
+
+        try (ImportacaoLeitor<InvestimentoImportacaoRequest> leitor =
+                     leitor(ImportacaoService.Formato.CSV, csv, InvestimentoImportacaoRequest.class)) {
+            ImportacaoLeitor.Linha<InvestimentoImportacaoRequest> primeira = leitor.proxima();
+            assertEquals(2, primeira.numero());
+            assertTrue(primeira.valida());
+            assertEquals(0, new BigDecimal("1500.50").compareTo(primeira.valor().getValor()));
+            assertEquals(LocalDate.of(2025, 1, 15), primeira.valor().getData());
+            assertEquals(Investment.StatusInvestimento.RESGATADO, primeira.valor().getStatus());
+
+            ImportacaoLeitor.Linha<InvestimentoImportacaoRequest> segunda = leitor.proxima();
+            assertEquals(4, segunda.numero());
+            assertNull(segunda.valor().getData());
+            assertNull(segunda.valor().getStatus());
+
+            assertNull(leitor.proxima());
+        }
+    }
+
+    @Test
+    void testLinhaInvalidaNaoInterrompeLeitura() throws IOException {
+        String csv = "nome,cpf,email,preferenciaInvestimento\n"
+                + "Ana,12345678901,ana@exemplo.com,OUTRA\n"
+                + "Bia,12345678902\n"
+                + "Caio,12345678903,caio@exemplo.com,LIQUIDEZ\n";
+
+        try (ImportacaoLeitor<ClienteImportacaoRequest> leitor =
+                     leitor(ImportacaoService.Formato.CSV, csv, ClienteImportacaoRequest.class)) {
+            assertFalse(leitor.proxima().valida());
+            ImportacaoLeitor.Linha<ClienteImportacaoRequest> curta = leitor.proxima();
+            assertFalse(curta.valida());
+            assertTrue(curta.erro().contains("esperados 4 campos"));
+
+            ImportacaoLeitor.Linha<ClienteImportacaoRequest> valida = leitor.proxima();
+            assertEquals(4, valida.numero());
+            assertEquals(Client.PreferenciaInvestimento.LIQUIDEZ, valida.valor().getPreferenciaInvestimento());
+        }
+    }
+
+    @Test
+    void testNdjson() throws IOException {
+        String ndjson = "{\"nome\":\"Ana\",\"cpf\":\"12345678901\",\"email\":\"ana@exemplo.com\"}\n"
+                + "{\"nome\":\"Bia\",\n"
+                + "{\"nome\":\"Caio\",\"cpf\":\"12345678903\",\"email\":\"caio@exemplo.com\"}\n";
+
+        try (ImportacaoLeitor<ClienteImportacaoRequest> leitor =
+                     leitor(ImportacaoService.Formato.NDJSON, ndjson, ClienteImportacaoRequest.class)) {
+            assertEquals("Ana", leitor.proxima().valor().getNome());
+            ImportacaoLeitor.Linha<ClienteImportacaoRequest> quebrada = leitor.proxima();
+            assertEquals(2, quebrada.numero());
+            assertFalse(quebrada.valida());
+            assertEquals("Caio", leitor.proxima().valor().getNome());
+            assertNull(leitor.proxima());
+        }
+    }
+
+    @Test
+    void testFormatos() {
+        assertEquals(ImportacaoService.Formato.CSV, ImportacaoService.Formato.deMediaType("text/csv; charset=UTF-8"));
+        assertEquals(ImportacaoService.Formato.NDJSON, ImportacaoService.Formato.deMediaType("application/x-ndjson"));
+        assertEquals(ImportacaoService.Formato.NDJSON, ImportacaoService.Formato.deArquivo("carga.JSONL"));
+        assertThrows(IllegalArgumentException.class, () -> ImportacaoService.Formato.deMediaType("application/json"));
+        assertThrows(IllegalArgumentException.class, () -> ImportacaoService.Entidade.de("usuarios"));
+        assertEquals(ImportacaoService.Entidade.INVESTIMENTOS, ImportacaoService.Entidade.de("investimentos"));
+    }
+}
@@ -0,0 +1,143 @@
+package com.caixa.invest.service;
+
+import com.caixa.invest.domain.Client;
+import com.caixa.invest.domain.Product;
+import com.caixa.invest.dto.request.ProductRequest;
+import com.caixa.invest.dto.response.ImportacaoResponse;
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class ImportacaoServiceTest {
+
+    @Inject
+    ImportacaoService importacaoService;
+
+    @Inject
+    ProductService productService;
+
+    @Inject
+    ProductCatalog catalog;
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    private ImportacaoResponse importar(ImportacaoService.Entidade entidade, ImportacaoService.Formato formato,
+                                        String conteudo) throws IOException {
+        return importacaoService.importar(entidade, formato,
+                new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String cpf() {
+        return String.valueOf(ThreadLocalRandom.current().nextLong(10_000_000_000L, 100_000_000_000L));
+    }
+
+    private static Client cliente(String cpf) {
+        return QuarkusTransaction.requiringNew().call(() -> Client.find("cpf", cpf).firstResult());
+    }
+
+    @Test
+    void testImportaClientesERejeitaLinhasInvalidas() throws IOException {
+        String cpf1 = cpf();
+        String cpf2 = cpf();
+        String csv = "nome,cpf,email,preferenciaInvestimento\n"
+                + "Ana," + cpf1 + ",ana@exemplo.com,RENTABILIDADE\n"
+                + "Bia,123,bia@exemplo.com,\n"
+                + "Caio," + cpf2 + ",caio@exemplo.com,\n"
+                + "Ana de novo," + cpf1 + ",ana2@exemplo.com,\n";
+
+        ImportacaoResponse relatorio = importar(ImportacaoService.Entidade.CLIENTES, ImportacaoService.Formato.CSV, csv);
+
+        assertEquals(4, relatorio.getLinhasLidas());
+        assertEquals(2, relatorio.getImportadas());
+        assertEquals(2, relatorio.getRejeitadas());
+        assertEquals(3, relatorio.getErros().get(0).getLinha());
+        assertEquals("cpf deve ter 11 dígitos", relatorio.getErros().get(0).getMensagem());
+        assertEquals(5, relatorio.getErros().get(1).getLinha());
+
+        Client ana = cliente(cpf1);
+        assertEquals("Ana", ana.getNome());
+        assertEquals(Client.PreferenciaInvestimento.RENTABILIDADE, ana.getPreferenciaInvestimento());
+        assertEquals(0, BigDecimal.ZERO.compareTo(ana.getVolumeTotalInvestido()));
+        assertNotNull(ana.getPerfilRisco());
+        assertNotNull(cliente(cpf2));
+    }
+
+    @Test
+    void testImportaProdutosNoCatalogo() throws IOException {
+        String ndjson = "{\"nome\":\"CDB Importado\",\"tipo\":\"CDB\",\"rentabilidade\":0.13,\"risco\":\"BAIXO\","
+                + "\"prazoMinimoMeses\":6,\"prazoMaximoMeses\":36,\"valorMinimo\":100,\"valorMaximo\":100000}\n"
+                + "{\"nome\":\"Limites invertidos\",\"tipo\":\"LCI\",\"rentabilidade\":0.1,\"risco\":\"BAIXO\","
+                + "\"prazoMinimoMeses\":36,\"prazoMaximoMeses\":6}\n";
+
+        ImportacaoResponse relatorio = importar(ImportacaoService.Entidade.PRODUTOS, ImportacaoService.Formato.NDJSON, ndjson);
+
+        assertEquals(1, relatorio.getImportadas());
+        assertEquals("prazoMinimoMeses deve ser menor ou igual a prazoMaximoMeses",
+                relatorio.getErros().get(0).getMensagem());
+        assertTrue(catalog.snapshot().porTipo(Product.TipoProduto.CDB).stream()
+                .anyMatch(p -> "CDB Importado".equals(p.getNome())));
+
+        Product criado = productService.create(ProductRequest.builder()
+                .nome("Depois da importação")
+                .tipo(Product.TipoProduto.LCA)
+                .rentabilidade(new BigDecimal("0.09"))
+                .risco(Product.NivelRisco.BAIXO)
+                .build());
+        assertEquals(1, catalog.snapshot().ativos().stream().filter(p -> p.id.equals(criado.id)).count());
+    }
+
+    @Test
+    void testImportaInvestimentosESomaNoCliente() throws IOException {
+        String cpf = cpf();
+        importar(ImportacaoService.Entidade.CLIENTES, ImportacaoService.Formato.CSV,
+                "nome,cpf,email\nInvestidor," + cpf + ",investidor@exemplo.com\n");
+        Long clienteId = cliente(cpf).id;
+        Long produtoId = catalog.snapshot().porTipo(Product.TipoProduto.FUNDO_ACOES).get(0).id;
+
+        String csv = "clienteId,produtoId,valor,prazoMeses,data,status\n"
+                + clienteId + "," + produtoId + ",20000.00,24,2025-01-10,\n"
+                + clienteId + "," + produtoId + ",5000.00,24,2024-01-10,RESGATADO\n"
+                + "999999," + produtoId + ",1000.00,24,,\n"
+                + clienteId + ",999999,1000.00,24,,\n";
+
+        ImportacaoResponse relatorio = importar(ImportacaoService.Entidade.INVESTIMENTOS, ImportacaoService.Formato.CSV, csv);
+
+        assertEquals(2, relatorio.getImportadas());
+        assertEquals(2, relatorio.getRejeitadas());
+        assertEquals("Produto não encontrado", relatorio.getErros().get(0).getMensagem());
+        assertEquals(4, relatorio.getErros().get(1).getLinha());
+
+        Client cliente = cliente(cpf);
+        assertEquals(0, new BigDecimal("20000.00").compareTo(cliente.getVolumeTotalInvestido()));
+        assertEquals(0, new BigDecimal("20000.00").compareTo(cliente.getVolumeAgressivo()));
+        assertEquals(3, cliente.getFrequenciaMovimentacoes());
+    }
+
+    @Test
+    void testAlocaIdsEmBlocosDoSequence() throws Exception {
+        long[] ids;
+        long proximo;
+        try (Connection connection = dataSource.getConnection()) {
+            ids = ImportacaoService.alocarIds(connection, "clients_SEQ", 120);
+            proximo = ImportacaoService.alocarIds(connection, "clients_SEQ", 1)[0];
+        }
+
+        assertEquals(120, Arrays.stream(ids).distinct().count());
+        assertEquals(ids[0] + 119, ids[119]);
+        assertTrue(proximo > ids[119]);
+    }
+}
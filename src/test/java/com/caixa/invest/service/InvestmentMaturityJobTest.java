@@ -0,0 +1,84 @@
+package com.caixa.invest.service;
+
+import com.caixa.invest.domain.Client;
+import com.caixa.invest.domain.Investment;
+import com.caixa.invest.dto.request.InvestimentoRequest;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class InvestmentMaturityJobTest {
+
+    @Inject
+    InvestmentMaturityJob job;
+
+    @Inject
+    InvestimentoService investimentoService;
+
+    @Inject
+    RiskScorer riskScorer;
+
+    private static Client cliente1() {
+        return QuarkusTransaction.requiringNew().call(() -> Client.findById(1L));
+    }
+
+    private static Investment investimento(Long id) {
+        return QuarkusTransaction.requiringNew().call(() -> Investment.findById(id));
+    }
+
+    @Test
+    void testVenceInvestimentosEDescontaDoCliente() {
+        Long id = investimentoService.investir(InvestimentoRequest.builder()
+                .clienteId(1L)
+                .produtoId(1L)
+                .valor(new BigDecimal("3000.00"))
+                .prazoMeses(6)
+                .build()).getId();
+        assertEquals(LocalDate.now().plusMonths(6), investimento(id).getDataVencimento());
+
+        BigDecimal volumeAntes = cliente1().getVolumeTotalInvestido();
+        BigDecimal conservadorAntes = cliente1().getVolumeConservador();
+
+        assertTrue(job.executar(LocalDate.now().plusMonths(6)) >= 1);
+
+        assertEquals(Investment.StatusInvestimento.VENCIDO, investimento(id).getStatus());
+        assertTrue(cliente1().getVolumeTotalInvestido().compareTo(volumeAntes.subtract(new BigDecimal("3000.00"))) <= 0);
+        assertTrue(cliente1().getVolumeConservador().compareTo(conservadorAntes.subtract(new BigDecimal("3000.00"))) <= 0);
+
+        Client cliente = cliente1();
+        int pontuacao = riskScorer.pontuar(cliente.getVolumeTotalInvestido(),
+                cliente.getFrequenciaMovimentacoes(), RiskScorer.preferencia(cliente));
+        assertEquals(pontuacao, cliente.getPontuacaoRisco());
+        assertEquals(RiskScorer.perfil(pontuacao), cliente.getPerfilRisco());
+    }
+
+    @Test
+    void testExecucaoRepetidaNaoAlteraNada() {
+        job.executar(LocalDate.now().plusYears(40));
+        BigDecimal volume = cliente1().getVolumeTotalInvestido();
+
+        assertEquals(0, job.executar(LocalDate.now().plusYears(40)));
+        assertEquals(0, volume.compareTo(cliente1().getVolumeTotalInvestido()));
+    }
+
+    @Test
+    void testNaoVenceAntesDoVencimento() {
+        Long id = investimentoService.investir(InvestimentoRequest.builder()
+                .clienteId(1L)
+                .produtoId(1L)
+                .valor(new BigDecimal("1500.00"))
+                .prazoMeses(24)
+                .build()).getId();
+
+        job.executar(LocalDate.now().plusMonths(23));
+
+        assertEquals(Investment.StatusInvestimento.ATIVO, investimento(id).getStatus());
+    }
+}
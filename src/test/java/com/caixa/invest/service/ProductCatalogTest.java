@@ -0,0 +1,105 @@
+package com.caixa.invest.service;
+
+import com.caixa.invest.domain.Product;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductCatalogTest {
+
+    private static Product produto(long id, Product.TipoProduto tipo, Product.NivelRisco risco, boolean ativo) {
+        Product product = Product.builder()
+                .nome("Produto " + id)
+                .tipo(tipo)
+                .risco(risco)
+                .ativo(ativo)
+                .build();
+        product.id = id;
+        return product;
+    }
+
+    private static ProductCatalog.Snapshot catalogo() {
+        return new ProductCatalog.Snapshot(1, List.of(
+                produto(3, Product.TipoProduto.LCI, Product.NivelRisco.BAIXO, true),
+                produto(1, Product.TipoProduto.CDB, Product.NivelRisco.BAIXO, true),
+                produto(2, Product.TipoProduto.CDB, Product.NivelRisco.ALTO, false),
+                produto(5, Product.TipoProduto.CDB, Product.NivelRisco.MEDIO, true)));
+    }
+
+    @Test
+    void testIndices() {
+        ProductCatalog.Snapshot snapshot = catalogo();
+
+        assertEquals(List.of(1L, 3L, 5L), snapshot.ativos().stream().map(p -> p.id).toList());
+        assertEquals(List.of(1L, 5L), snapshot.porTipo(Product.TipoProduto.CDB).stream().map(p -> p.id).toList());
+        assertEquals(List.of(1L, 3L), snapshot.porRisco(Product.NivelRisco.BAIXO).stream().map(p -> p.id).toList());
+        assertTrue(snapshot.porRisco(Product.NivelRisco.ALTO).isEmpty());
+        assertTrue(snapshot.porTipo(Product.TipoProduto.FUNDO).isEmpty());
+    }
+
+    @Test
+    void testPorIdIncluiInativos() {
+        ProductCatalog.Snapshot snapshot = catalogo();
+
+        assertFalse(snapshot.porId(2L).getAtivo());
+        assertNull(snapshot.porId(4L));
+        assertNull(snapshot.porId(99L));
+        assertNull(snapshot.porId(null));
+    }
+
+    @Test
+    void testPaginas() {
+        ProductCatalog.Snapshot snapshot = catalogo();
+
+        assertEquals(List.of(1L, 3L), snapshot.pagina(0, 2).stream().map(p -> p.id).toList());
+        assertEquals(List.of(5L), snapshot.pagina(1, 2).stream().map(p -> p.id).toList());
+        assertTrue(snapshot.pagina(2, 2).isEmpty());
+    }
+
+    @Test
+    void testPaginasPorCursor() {
+        ProductCatalog.Snapshot snapshot = catalogo();
+
+        assertEquals(List.of(1L, 3L), snapshot.apos(0, 2).stream().map(p -> p.id).toList());
+        assertEquals(List.of(3L, 5L), snapshot.apos(2, 2).stream().map(p -> p.id).toList());
+        assertEquals(List.of(5L), snapshot.apos(3, 2).stream().map(p -> p.id).toList());
+        assertTrue(snapshot.apos(5, 2).isEmpty());
+        assertEquals(2, snapshot.posicaoApos(4));
+    }
+
+    @Test
+    void testAlteracaoGeraNovaVersao() {
+        ProductCatalog.Snapshot anterior = catalogo();
+        ProductCatalog.Snapshot atual = anterior.com(produto(1, Product.TipoProduto.LCA, Product.NivelRisco.BAIXO, false));
+
+        assertEquals(2, atual.versao());
+        assertEquals(List.of(3L, 5L), atual.ativos().stream().map(p -> p.id).toList());
+        assertEquals(List.of(5L), atual.porTipo(Product.TipoProduto.CDB).stream().map(p -> p.id).toList());
+        assertEquals(Product.TipoProduto.LCA, atual.porId(1L).getTipo());
+        assertEquals(List.of(1L, 3L, 5L), anterior.ativos().stream().map(p -> p.id).toList());
+    }
+
+    @Test
+    void testRemocaoEComparacao() {
+        ProductCatalog.Snapshot anterior = catalogo();
+
+        ProductCatalog.Snapshot atual = anterior.semProduto(3L);
+        assertEquals(2, atual.versao());
+        assertEquals(List.of(1L, 5L), atual.ativos().stream().map(p -> p.id).toList());
+        assertSame(anterior, anterior.semProduto(4L));
+
+        assertTrue(anterior.contemExatamente(List.of(
+                produto(1, Product.TipoProduto.CDB, Product.NivelRisco.BAIXO, true),
+                produto(2, Product.TipoProduto.CDB, Product.NivelRisco.ALTO, false),
+                produto(3, Product.TipoProduto.LCI, Product.NivelRisco.BAIXO, true),
+                produto(5, Product.TipoProduto.CDB, Product.NivelRisco.MEDIO, true))));
+        assertFalse(anterior.contemExatamente(List.of(
+                produto(1, Product.TipoProduto.CDB, Product.NivelRisco.BAIXO, true),
+                produto(2, Product.TipoProduto.CDB, Product.NivelRisco.ALTO, true),
+                produto(3, Product.TipoProduto.LCI, Product.NivelRisco.BAIXO, true),
+                produto(5, Product.TipoProduto.CDB, Product.NivelRisco.MEDIO, true))));
+        assertFalse(atual.contemExatamente(anterior.ativos()));
+    }
+}
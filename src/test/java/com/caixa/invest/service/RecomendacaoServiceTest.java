@@ -0,0 +1,62 @@
+package com.caixa.invest.service;
+
+import com.caixa.invest.domain.Client;
+import com.caixa.invest.domain.Product;
+import com.caixa.invest.dto.response.ProdutoResponse;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecomendacaoServiceTest {
+
+    private static final List<Product> ATIVOS = List.of(
+            produto(1, Product.NivelRisco.BAIXO, "0.12", 90),
+            produto(2, Product.NivelRisco.BAIXO, "0.06", 0),
+            produto(3, Product.NivelRisco.MEDIO, "0.11", 30),
+            produto(4, Product.NivelRisco.ALTO, "0.18", 60),
+            produto(5, Product.NivelRisco.MEDIO, "0.14", 30));
+
+    private static Product produto(long id, Product.NivelRisco risco, String rentabilidade, int liquidezDias) {
+        Product product = Product.builder()
+                .nome("Produto " + id)
+                .tipo(Product.TipoProduto.CDB)
+                .risco(risco)
+                .rentabilidade(new BigDecimal(rentabilidade))
+                .liquidezDias(liquidezDias)
+                .ativo(true)
+                .build();
+        product.id = id;
+        return product;
+    }
+
+    private static List<Long> ids(List<ProdutoResponse> produtos) {
+        return produtos.stream().map(ProdutoResponse::getId).toList();
+    }
+
+    @Test
+    void testConservadorSoRiscoBaixoPorLiquidez() {
+        assertEquals(List.of(2L, 1L), ids(RecomendacaoService.ranquear(ATIVOS, Client.PerfilRisco.CONSERVADOR)));
+    }
+
+    @Test
+    void testModeradoRiscoMedioPrimeiro() {
+        assertEquals(List.of(5L, 3L, 1L, 2L), ids(RecomendacaoService.ranquear(ATIVOS, Client.PerfilRisco.MODERADO)));
+    }
+
+    @Test
+    void testAgressivoTodosPorRisco() {
+        assertEquals(List.of(4L, 5L, 3L, 1L, 2L), ids(RecomendacaoService.ranquear(ATIVOS, Client.PerfilRisco.AGRESSIVO)));
+    }
+
+    @Test
+    void testRespostaCopiaDadosDoProduto() {
+        ProdutoResponse primeiro = RecomendacaoService.ranquear(ATIVOS, Client.PerfilRisco.AGRESSIVO).get(0);
+
+        assertEquals("ALTO", primeiro.getRisco());
+        assertEquals("CDB", primeiro.getTipo());
+        assertEquals(60, primeiro.getLiquidezDias());
+    }
+}
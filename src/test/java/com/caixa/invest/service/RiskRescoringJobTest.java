@@ -0,0 +1,58 @@
+package com.caixa.invest.service;
+
+import com.caixa.invest.domain.Client;
+import com.caixa.invest.domain.JobCheckpoint;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class RiskRescoringJobTest {
+
+    @Inject
+    RiskRescoringJob job;
+
+    private static void pontuacaoCliente1(int pontuacao) {
+        QuarkusTransaction.requiringNew().run(() -> Client.update("pontuacaoRisco = ?1 where id = 1", pontuacao));
+    }
+
+    private static Client cliente1() {
+        return QuarkusTransaction.requiringNew().call(() -> Client.findById(1L));
+    }
+
+    @Test
+    void testRecalculaTodosOsClientes() {
+        pontuacaoCliente1(99);
+
+        long processados = job.executar();
+
+        Client client = cliente1();
+        assertTrue(processados >= 1);
+        assertNotEquals(99, client.getPontuacaoRisco());
+        assertEquals(RiskScorer.perfil(client.getPontuacaoRisco()), client.getPerfilRisco());
+        assertFalse(job.pendente());
+    }
+
+    @Test
+    void testRetomaDoCheckpoint() {
+        job.executar();
+        pontuacaoCliente1(99);
+        QuarkusTransaction.requiringNew().run(() -> JobCheckpoint.update(
+                "ultimoId = 1, processados = 1, concluido = false, atualizadoEm = ?1 where nome = ?2",
+                LocalDateTime.now(), RiskRescoringJob.NOME));
+        assertTrue(job.pendente());
+
+        job.executar();
+
+        assertEquals(99, cliente1().getPontuacaoRisco());
+        assertFalse(job.pendente());
+
+        job.executar();
+        assertNotEquals(99, cliente1().getPontuacaoRisco());
+    }
+}
@@ -0,0 +1,84 @@
+package com.caixa.invest.service;
+
+import com.caixa.invest.domain.Client;
+import com.caixa.invest.domain.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RiskScorerTest {
+
+    private RiskScorer scorer;
+
+    @BeforeEach
+    void setUp() {
+        scorer = new RiskScorer();
+        scorer.pesoVolume = 40;
+        scorer.pesoFrequencia = 30;
+        scorer.pesoPreferencia = 30;
+    }
+
+    private static Client cliente() {
+        return Client.builder()
+                .volumeTotalInvestido(BigDecimal.ZERO)
+                .frequenciaMovimentacoes(0)
+                .preferenciaInvestimento(Client.PreferenciaInvestimento.EQUILIBRADO)
+                .build();
+    }
+
+    @Test
+    void testPontuacaoPorFaixas() {
+        assertEquals(25, scorer.pontuar(BigDecimal.ZERO, 0, RiskScorer.Categoria.CONSERVADOR));
+        assertEquals(55, scorer.pontuar(new BigDecimal("30000"), 4, RiskScorer.Categoria.MODERADO));
+        assertEquals(100, scorer.pontuar(new BigDecimal("150000"), 20, RiskScorer.Categoria.AGRESSIVO));
+    }
+
+    @Test
+    void testPesosConfiguraveis() {
+        scorer.pesoVolume = 100;
+        scorer.pesoFrequencia = 0;
+        scorer.pesoPreferencia = 0;
+
+        assertEquals(25, scorer.pontuar(BigDecimal.ZERO, 20, RiskScorer.Categoria.AGRESSIVO));
+        assertEquals(100, scorer.pontuar(new BigDecimal("150000"), 0, RiskScorer.Categoria.CONSERVADOR));
+    }
+
+    @Test
+    void testClassificacao() {
+        assertEquals(Client.PerfilRisco.CONSERVADOR, RiskScorer.perfil(40));
+        assertEquals(Client.PerfilRisco.MODERADO, RiskScorer.perfil(41));
+        assertEquals(Client.PerfilRisco.MODERADO, RiskScorer.perfil(70));
+        assertEquals(Client.PerfilRisco.AGRESSIVO, RiskScorer.perfil(71));
+    }
+
+    @Test
+    void testAplicacaoAtualizaAgregadosEPerfil() {
+        Client client = cliente();
+
+        scorer.registrarAplicacao(client, Product.TipoProduto.FUNDO_ACOES, new BigDecimal("120000"));
+
+        assertEquals(0, client.getVolumeTotalInvestido().compareTo(new BigDecimal("120000")));
+        assertEquals(0, client.getVolumeAgressivo().compareTo(new BigDecimal("120000")));
+        assertEquals(1, client.getFrequenciaMovimentacoes());
+        assertEquals(Client.PreferenciaInvestimento.RENTABILIDADE, client.getPreferenciaInvestimento());
+        assertEquals(75, client.getPontuacaoRisco());
+        assertEquals(Client.PerfilRisco.AGRESSIVO, client.getPerfilRisco());
+    }
+
+    @Test
+    void testResgateRetiraVolume() {
+        Client client = cliente();
+        scorer.registrarAplicacao(client, Product.TipoProduto.CDB, new BigDecimal("5000"));
+        scorer.registrarAplicacao(client, Product.TipoProduto.FUNDO_ACOES, new BigDecimal("8000"));
+
+        scorer.registrarResgate(client, Product.TipoProduto.FUNDO_ACOES, new BigDecimal("8000"));
+
+        assertEquals(0, client.getVolumeTotalInvestido().compareTo(new BigDecimal("5000")));
+        assertEquals(0, client.getVolumeAgressivo().signum());
+        assertEquals(3, client.getFrequenciaMovimentacoes());
+        assertEquals(Client.PreferenciaInvestimento.LIQUIDEZ, client.getPreferenciaInvestimento());
+    }
+}
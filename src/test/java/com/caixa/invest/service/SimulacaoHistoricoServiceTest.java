@@ -0,0 +1,102 @@
+package com.caixa.invest.service;
+
+import com.caixa.invest.domain.Client;
+import com.caixa.invest.domain.Product;
+import com.caixa.invest.domain.Simulation;
+import com.caixa.invest.dto.response.SimulacaoHistoricoResponse;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class SimulacaoHistoricoServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 10, 1, 10, 0);
+
+    @Inject
+    SimulacaoHistoricoService historicoService;
+
+    @Inject
+    SimulationWriteBehind writeBehind;
+
+    private Long clienteId;
+
+    @BeforeEach
+    void setUp() {
+        Client client = QuarkusTransaction.requiringNew().call(() -> {
+            Client novo = Client.builder()
+                    .nome("Cliente Histórico")
+                    .cpf(UUID.randomUUID().toString().substring(0, 11))
+                    .email("historico@caixa.com")
+                    .build();
+            novo.persist();
+            return novo;
+        });
+        clienteId = client.id;
+        Product product = Product.findAll().firstResult();
+
+        // Duas simulações com a mesma data para exercitar o desempate por id
+        for (int i = 0; i < 5; i++) {
+            writeBehind.enqueue(Simulation.builder()
+                    .client(client)
+                    .product(product)
+                    .valorInvestido(new BigDecimal("1000.00"))
+                    .valorFinal(new BigDecimal("1100.00"))
+                    .rentabilidadeEfetiva(new BigDecimal("0.1000"))
+                    .prazoMeses(12)
+                    .dataSimulacao(BASE.plusMinutes(Math.min(i, 3)))
+                    .build());
+        }
+        writeBehind.flush();
+    }
+
+    @Test
+    void testListarPaginaPorCursor() {
+        List<SimulacaoHistoricoResponse> primeira = historicoService.listar(clienteId, null, 2);
+        assertEquals(2, primeira.size());
+        assertEquals(BASE.plusMinutes(3), primeira.get(0).getDataSimulacao());
+        assertTrue(primeira.get(0).getId() > primeira.get(1).getId());
+
+        SimulacaoHistoricoService.Cursor cursor = SimulacaoHistoricoService.Cursor.de(primeira.get(1));
+        List<SimulacaoHistoricoResponse> segunda = historicoService.listar(clienteId, cursor, 2);
+        List<SimulacaoHistoricoResponse> terceira =
+                historicoService.listar(clienteId, SimulacaoHistoricoService.Cursor.de(segunda.get(1)), 2);
+
+        assertEquals(2, segunda.size());
+        assertEquals(1, terceira.size());
+        assertEquals(BASE, terceira.get(0).getDataSimulacao());
+        assertEquals(clienteId, terceira.get(0).getClienteId());
+        assertNotNull(terceira.get(0).getProduto());
+    }
+
+    @Test
+    void testCursorCodificacao() {
+        SimulacaoHistoricoService.Cursor cursor = new SimulacaoHistoricoService.Cursor(BASE, 42L);
+
+        assertEquals(cursor, SimulacaoHistoricoService.Cursor.decodificar(cursor.codificar()));
+        assertThrows(IllegalArgumentException.class, () -> SimulacaoHistoricoService.Cursor.decodificar("invalido"));
+    }
+
+    @Test
+    void testStreamNdjson() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        historicoService.stream(clienteId, out);
+
+        String[] linhas = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(5, linhas.length);
+        assertTrue(linhas[0].startsWith("{"));
+        assertTrue(linhas[0].contains("\"clienteId\":" + clienteId));
+    }
+}
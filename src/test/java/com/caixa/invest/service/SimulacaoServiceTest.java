@@ -0,0 +1,141 @@
+package com.caixa.invest.service;
+
+import com.caixa.invest.domain.Client;
+import com.caixa.invest.domain.Product;
+import com.caixa.invest.domain.Simulation;
+import com.caixa.invest.dto.request.SimulacaoRequest;
+import com.caixa.invest.dto.response.SimulacaoResponse;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class SimulacaoServiceTest {
+
+    @Inject
+    SimulacaoService simulacaoService;
+
+    @Inject
+    SimulationWriteBehind writeBehind;
+
+    private static Product produto(Product.TipoProduto tipo, String rentabilidade) {
+        return Product.builder()
+                .nome("Produto " + tipo)
+                .tipo(tipo)
+                .rentabilidade(new BigDecimal(rentabilidade))
+                .risco(Product.NivelRisco.BAIXO)
+                .build();
+    }
+
+    @Test
+    void testCalcularComImpostoRenda() {
+        SimulacaoResponse.ResultadoSimulacao resultado =
+                simulacaoService.calcular(produto(Product.TipoProduto.CDB, "0.12"), new BigDecimal("10000.00"), 12);
+
+        assertEquals(new BigDecimal("11200.00"), resultado.getValorFinal());
+        assertEquals(new BigDecimal("0.1200"), resultado.getRentabilidadeEfetiva());
+        assertEquals(new BigDecimal("240.00"), resultado.getImpostoRenda());
+        assertEquals(new BigDecimal("10960.00"), resultado.getValorLiquido());
+        assertEquals(12, resultado.getPrazoMeses());
+    }
+
+    @Test
+    void testCalcularProdutoIsento() {
+        SimulacaoResponse.ResultadoSimulacao resultado =
+                simulacaoService.calcular(produto(Product.TipoProduto.LCI, "0.10"), new BigDecimal("5000.00"), 24);
+
+        assertEquals(new BigDecimal("6050.00"), resultado.getValorFinal());
+        assertEquals(0, resultado.getImpostoRenda().signum());
+        assertEquals(resultado.getValorFinal(), resultado.getValorLiquido());
+    }
+
+    @Test
+    void testSimularPersisteSimulacao() {
+        Long clienteId = ((Client) Client.findAll().firstResult()).id;
+        writeBehind.flush();
+        long antes = Simulation.count();
+
+        SimulacaoResponse response = simulacaoService.simular(SimulacaoRequest.builder()
+                .clienteId(clienteId)
+                .valor(new BigDecimal("10000.00"))
+                .prazoMeses(12)
+                .tipoProduto("CDB")
+                .build());
+
+        assertEquals("CDB", response.getProdutoValidado().getTipo());
+        assertEquals(new BigDecimal("11200.00"), response.getResultadoSimulacao().getValorFinal());
+        assertNotNull(response.getDataSimulacao());
+
+        writeBehind.flush();
+        assertEquals(antes + 1, Simulation.count());
+    }
+
+    @Test
+    void testSimularClienteInexistente() {
+        SimulacaoRequest request = SimulacaoRequest.builder()
+                .clienteId(999999L)
+                .valor(new BigDecimal("10000.00"))
+                .prazoMeses(12)
+                .tipoProduto("CDB")
+                .build();
+
+        assertThrows(NoSuchElementException.class, () -> simulacaoService.simular(request));
+    }
+
+    @Test
+    void testTipoProdutoInvalido() {
+        Long clienteId = ((Client) Client.findAll().firstResult()).id;
+        SimulacaoRequest request = SimulacaoRequest.builder()
+                .clienteId(clienteId)
+                .valor(new BigDecimal("10000.00"))
+                .prazoMeses(12)
+                .tipoProduto("ACOES_LUA")
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> simulacaoService.simular(request));
+    }
+
+    @Test
+    void testSimularLoteMantemOrdem() {
+        Long clienteId = ((Client) Client.findAll().firstResult()).id;
+        writeBehind.flush();
+        long antes = Simulation.count();
+
+        List<SimulacaoResponse> respostas = simulacaoService.simularLote(List.of(
+                SimulacaoRequest.builder().clienteId(clienteId).valor(new BigDecimal("10000.00"))
+                        .prazoMeses(12).tipoProduto("CDB").build(),
+                SimulacaoRequest.builder().clienteId(clienteId).valor(new BigDecimal("10000.00"))
+                        .prazoMeses(24).tipoProduto("LCI").build(),
+                SimulacaoRequest.builder().clienteId(clienteId).valor(new BigDecimal("10000.00"))
+                        .prazoMeses(6).tipoProduto("CDB").build()));
+
+        assertEquals(3, respostas.size());
+        assertEquals("CDB", respostas.get(0).getProdutoValidado().getTipo());
+        assertEquals(12, respostas.get(0).getResultadoSimulacao().getPrazoMeses());
+        assertEquals("LCI", respostas.get(1).getProdutoValidado().getTipo());
+        assertEquals(6, respostas.get(2).getResultadoSimulacao().getPrazoMeses());
+
+        writeBehind.flush();
+        assertEquals(antes + 3, Simulation.count());
+    }
+
+    @Test
+    void testSimularLoteIndicaItemInvalido() {
+        Long clienteId = ((Client) Client.findAll().firstResult()).id;
+        List<SimulacaoRequest> lote = List.of(
+                SimulacaoRequest.builder().clienteId(clienteId).valor(new BigDecimal("10000.00"))
+                        .prazoMeses(12).tipoProduto("CDB").build(),
+                SimulacaoRequest.builder().clienteId(clienteId).valor(new BigDecimal("10000.00"))
+                        .prazoMeses(12).tipoProduto("XYZ").build());
+
+        IllegalArgumentException exception =
+                assertThrows(IllegalArgumentException.class, () -> simulacaoService.simularLote(lote));
+        assertTrue(exception.getMessage().startsWith("Item 1:"));
+    }
+}
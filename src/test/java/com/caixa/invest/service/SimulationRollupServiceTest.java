@@ -0,0 +1,66 @@
+package com.caixa.invest.service;
+
+import com.caixa.invest.domain.Client;
+import com.caixa.invest.domain.Product;
+import com.caixa.invest.domain.Simulation;
+import com.caixa.invest.dto.response.SimulacaoPorProdutoDiaResponse;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class SimulationRollupServiceTest {
+
+    @Inject
+    SimulationRollupService rollupService;
+
+    @Inject
+    SimulationWriteBehind writeBehind;
+
+    private void simular(Client client, Product product, LocalDate dia, String valorFinal) {
+        writeBehind.enqueue(Simulation.builder()
+                .client(client)
+                .product(product)
+                .valorInvestido(new BigDecimal("1000.00"))
+                .valorFinal(new BigDecimal(valorFinal))
+                .rentabilidadeEfetiva(new BigDecimal("0.1000"))
+                .prazoMeses(12)
+                .dataSimulacao(dia.atTime(12, 0))
+                .build());
+    }
+
+    @Test
+    void testConsolidadoIncrementalEReconstrucao() {
+        LocalDate dia = LocalDate.of(2020, 3, 15);
+        Client client = Client.findAll().firstResult();
+        Product product = Product.find("tipo", Product.TipoProduto.CDB).firstResult();
+
+        simular(client, product, dia, "1100.00");
+        writeBehind.flush();
+        simular(client, product, dia, "1300.00");
+        simular(client, product, dia.plusDays(1), "1500.00");
+        writeBehind.flush();
+
+        List<SimulacaoPorProdutoDiaResponse> consolidado = rollupService.porProdutoDia(dia, dia);
+        assertEquals(1, consolidado.size());
+        assertEquals(product.getNome(), consolidado.get(0).getProduto());
+        assertEquals(2L, consolidado.get(0).getQuantidadeSimulacoes());
+        assertEquals(new BigDecimal("1200.00"), consolidado.get(0).getMediaValorFinal());
+
+        int linhas = rollupService.reconstruir(dia, dia.plusDays(1));
+
+        assertEquals(2, linhas);
+        List<SimulacaoPorProdutoDiaResponse> reconstruido = rollupService.porProdutoDia(dia, dia.plusDays(1));
+        assertEquals(2, reconstruido.size());
+        assertEquals(2L, reconstruido.get(0).getQuantidadeSimulacoes());
+        assertEquals(new BigDecimal("1200.00"), reconstruido.get(0).getMediaValorFinal());
+        assertEquals(dia.plusDays(1), reconstruido.get(1).getData());
+        assertEquals(1L, reconstruido.get(1).getQuantidadeSimulacoes());
+    }
+}
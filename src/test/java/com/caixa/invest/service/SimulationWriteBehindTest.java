@@ -0,0 +1,81 @@
+package com.caixa.invest.service;
+
+import com.caixa.invest.domain.Client;
+import com.caixa.invest.domain.Product;
+import com.caixa.invest.domain.Simulation;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class SimulationWriteBehindTest {
+
+    @Inject
+    SimulationWriteBehind writeBehind;
+
+    private static Simulation simulacao(Client client, Product product) {
+        return Simulation.builder()
+                .client(client)
+                .product(product)
+                .valorInvestido(new BigDecimal("1000.00"))
+                .valorFinal(new BigDecimal("1120.00"))
+                .rentabilidadeEfetiva(new BigDecimal("0.1200"))
+                .prazoMeses(12)
+                .impostoRenda(new BigDecimal("24.00"))
+                .valorLiquido(new BigDecimal("1096.00"))
+                .build();
+    }
+
+    @Test
+    void testEnqueueGravaEmLote() {
+        Client client = Client.findAll().firstResult();
+        Product product = Product.findAll().firstResult();
+        writeBehind.flush();
+        long antes = Simulation.count();
+
+        for (int i = 0; i < 250; i++) {
+            writeBehind.enqueue(simulacao(client, product));
+        }
+        writeBehind.flush();
+
+        assertEquals(0, writeBehind.tamanhoFila());
+        assertEquals(antes + 250, Simulation.count());
+    }
+
+    @Test
+    void testLoteRecusadoPerdeSoASimulacaoInvalida() {
+        Client client = Client.findAll().firstResult();
+        Product product = Product.findAll().firstResult();
+        Client inexistente = new Client();
+        inexistente.id = Long.MAX_VALUE;
+        writeBehind.flush();
+        long antes = Simulation.count();
+
+        for (int i = 0; i < 10; i++) {
+            writeBehind.enqueue(simulacao(i == 5 ? inexistente : client, product));
+        }
+        writeBehind.flush();
+
+        assertEquals(antes + 9, Simulation.count());
+    }
+
+    @Test
+    void testSimulacaoGravadaComDataSimulacao() {
+        Client client = Client.findAll().firstResult();
+        Product product = Product.findAll().firstResult();
+        Simulation simulation = simulacao(client, product);
+
+        writeBehind.enqueue(simulation);
+        writeBehind.flush();
+
+        assertNotNull(simulation.id);
+        Simulation gravada = Simulation.findById(simulation.id);
+        assertNotNull(gravada);
+        assertNotNull(gravada.getDataSimulacao());
+        assertEquals(0, new BigDecimal("1120.00").compareTo(gravada.getValorFinal()));
+    }
+}
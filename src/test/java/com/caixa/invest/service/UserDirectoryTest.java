@@ -0,0 +1,59 @@
+package com.caixa.invest.service;
+
+import com.caixa.invest.domain.User;
+import com.caixa.invest.security.UserSnapshot;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class UserDirectoryTest {
+
+    @Inject
+    UserDirectory userDirectory;
+
+    @Inject
+    AuthService authService;
+
+    @Test
+    void testBuscarUsaCache() {
+        UserSnapshot primeira = userDirectory.buscar("admin");
+        UserSnapshot segunda = userDirectory.buscar("admin");
+
+        assertNotNull(primeira);
+        assertSame(primeira, segunda);
+        assertEquals(User.Role.ADMIN, primeira.role());
+    }
+
+    @Test
+    void testAlteracaoDoUsuarioInvalidaCache() {
+        QuarkusTransaction.requiringNew().run(() -> User.builder()
+                .username("cache_usuario")
+                .email("cache_usuario@test.com")
+                .password("$2a$12$k7ebzNvmKCDiKFwxZX0yhueJOtxxfjOL8/Q6rw1rcwobieWCc3Y7S")
+                .role(User.Role.USER)
+                .enabled(true)
+                .build()
+                .persist());
+        assertTrue(userDirectory.buscar("cache_usuario").enabled());
+
+        QuarkusTransaction.requiringNew().run(() -> {
+            User user = User.find("username", "cache_usuario").firstResult();
+            user.setEnabled(false);
+        });
+
+        assertFalse(userDirectory.buscar("cache_usuario").enabled());
+        SecurityException exception = assertThrows(SecurityException.class, () ->
+                authService.authenticate("cache_usuario", "password123"));
+        assertEquals("Usuário desabilitado", exception.getMessage());
+    }
+
+    @Test
+    void testUsuarioInexistente() {
+        assertNull(userDirectory.buscar("nao_existe"));
+        assertNull(authService.findByUsername(null));
+    }
+}
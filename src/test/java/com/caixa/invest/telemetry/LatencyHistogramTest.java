@@ -0,0 +1,96 @@
+package com.caixa.invest.telemetry;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void testPercentisDentroDoErroRelativo() {
+        LatencyHistogram histograma = new LatencyHistogram();
+        for (long micros = 1; micros <= 100_000; micros++) {
+            histograma.registrar(micros);
+        }
+
+        assertEquals(100_000, histograma.quantidade());
+        assertEquals(100_000, histograma.maximo());
+        assertEquals(50_000, histograma.percentil(50), 50_000 * 0.035);
+        assertEquals(95_000, histograma.percentil(95), 95_000 * 0.035);
+        assertEquals(99_000, histograma.percentil(99), 99_000 * 0.035);
+        assertEquals(100_000, histograma.percentil(100));
+    }
+
+    @Test
+    void testValoresPequenosSaoExatos() {
+        LatencyHistogram histograma = new LatencyHistogram();
+        histograma.registrar(3);
+        histograma.registrar(7);
+        histograma.registrar(7);
+
+        assertEquals(3, histograma.percentil(10));
+        assertEquals(7, histograma.percentil(50));
+        assertEquals(6, histograma.media());
+    }
+
+    @Test
+    void testHistogramaVazio() {
+        LatencyHistogram histograma = new LatencyHistogram();
+
+        assertEquals(0, histograma.percentil(99));
+        assertEquals(0, histograma.media());
+    }
+
+    @Test
+    void testMesclarEquivaleARegistrarTudo() {
+        LatencyHistogram a = new LatencyHistogram();
+        LatencyHistogram b = new LatencyHistogram();
+        LatencyHistogram todos = new LatencyHistogram();
+        for (long micros = 0; micros < 5_000; micros += 7) {
+            (micros % 2 == 0 ? a : b).registrar(micros * 13);
+            todos.registrar(micros * 13);
+        }
+
+        a.mesclar(b);
+
+        assertEquals(todos.quantidade(), a.quantidade());
+        assertEquals(todos.soma(), a.soma());
+        assertEquals(todos.maximo(), a.maximo());
+        assertEquals(todos.percentil(99), a.percentil(99));
+        assertArrayEquals(todos.codificar(), a.codificar());
+    }
+
+    @Test
+    void testCodificarEDecodificar() {
+        LatencyHistogram histograma = new LatencyHistogram();
+        histograma.registrar(150);
+        histograma.registrar(2_500_000);
+        histograma.registrar(-1);
+
+        LatencyHistogram decodificado = LatencyHistogram.decodificar(histograma.codificar());
+
+        assertEquals(3, decodificado.quantidade());
+        assertEquals(histograma.soma(), decodificado.soma());
+        assertEquals(2_500_000, decodificado.maximo());
+        assertEquals(histograma.percentil(50), decodificado.percentil(50));
+        assertTrue(histograma.codificar().length < 32);
+    }
+
+    @Test
+    void testDecodificarFormatoInvalido() {
+        assertThrows(IllegalArgumentException.class, () -> LatencyHistogram.decodificar(new byte[0]));
+        assertThrows(IllegalArgumentException.class, () -> LatencyHistogram.decodificar(new byte[]{9}));
+        assertThrows(IllegalArgumentException.class, () -> LatencyHistogram.decodificar(new byte[]{1, (byte) 0x80}));
+    }
+
+    @Test
+    void testLimitesDosBucketsSaoContiguos() {
+        for (long valor = 0; valor < 1_000_000; valor++) {
+            int indice = LatencyHistogram.indice(valor);
+            assertTrue(LatencyHistogram.limiteSuperior(indice) >= valor);
+            if (indice > 0) {
+                assertTrue(LatencyHistogram.limiteSuperior(indice - 1) < valor);
+            }
+        }
+    }
+}
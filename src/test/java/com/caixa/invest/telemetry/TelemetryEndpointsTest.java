@@ -0,0 +1,49 @@
+package com.caixa.invest.telemetry;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TelemetryEndpointsTest {
+
+    @Path("/v1")
+    static class Recurso {
+
+        @POST
+        @Path("/simular-investimento/lote")
+        public void lote() {
+        }
+
+        @GET
+        @Path("/perfil-risco/{clienteId}")
+        public void perfil() {
+        }
+    }
+
+    @Test
+    void testNomeServico() {
+        assertEquals("simular-investimento", TelemetryEndpoints.nomeServico("/v1/simular-investimento"));
+        assertEquals("perfil-risco", TelemetryEndpoints.nomeServico("/v1/perfil-risco/{clienteId}"));
+        assertEquals("auth-login", TelemetryEndpoints.nomeServico("/api/auth/login"));
+        assertEquals("root", TelemetryEndpoints.nomeServico("/"));
+    }
+
+    @Test
+    void testIdEstavelPorMetodo() throws NoSuchMethodException {
+        TelemetryEndpoints endpoints = new TelemetryEndpoints();
+        int lote = endpoints.id(Recurso.class, Recurso.class.getMethod("lote"));
+        int perfil = endpoints.id(Recurso.class, Recurso.class.getMethod("perfil"));
+
+        assertNotEquals(lote, perfil);
+        assertEquals(lote, endpoints.id(Recurso.class, Recurso.class.getMethod("lote")));
+
+        TelemetryEndpoints.Endpoint endpoint = endpoints.endpoint(lote);
+        assertEquals("simular-investimento-lote", endpoint.serviceName());
+        assertEquals("/v1/simular-investimento/lote", endpoint.path());
+        assertEquals("POST", endpoint.httpMethod());
+        assertEquals("GET", endpoints.endpoint(perfil).httpMethod());
+    }
+}
@@ -0,0 +1,95 @@
+package com.caixa.invest.telemetry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TelemetryRingBufferTest {
+
+    @Test
+    void testCapacidadeArredondadaParaPotenciaDeDois() {
+        assertEquals(2, new TelemetryRingBuffer(1).capacidade());
+        assertEquals(8, new TelemetryRingBuffer(5).capacidade());
+        assertEquals(1024, new TelemetryRingBuffer(1024).capacidade());
+    }
+
+    @Test
+    void testDrenarEntregaMedicoesEmOrdem() {
+        TelemetryRingBuffer buffer = new TelemetryRingBuffer(8);
+        buffer.registrar(1, 200, 1_000L, 10L);
+        buffer.registrar(2, 404, 2_000L, 20L);
+
+        List<long[]> lidas = new ArrayList<>();
+        int quantidade = buffer.drenar((endpoint, status, duracao, instante) ->
+                lidas.add(new long[]{endpoint, status, duracao, instante}), 10);
+
+        assertEquals(2, quantidade);
+        assertArrayEquals(new long[]{1, 200, 1_000L, 10L}, lidas.get(0));
+        assertArrayEquals(new long[]{2, 404, 2_000L, 20L}, lidas.get(1));
+        assertEquals(0, buffer.pendentes());
+    }
+
+    @Test
+    void testBufferCheioDescartaMedicao() {
+        TelemetryRingBuffer buffer = new TelemetryRingBuffer(2);
+
+        assertTrue(buffer.registrar(0, 200, 1L, 1L));
+        assertTrue(buffer.registrar(0, 200, 1L, 1L));
+        assertFalse(buffer.registrar(0, 200, 1L, 1L));
+        assertEquals(1, buffer.descartados());
+
+        buffer.drenar((endpoint, status, duracao, instante) -> { }, 1);
+        assertTrue(buffer.registrar(0, 200, 1L, 1L));
+    }
+
+    @Test
+    void testDrenarRespeitaMaximo() {
+        TelemetryRingBuffer buffer = new TelemetryRingBuffer(16);
+        for (int i = 0; i < 10; i++) {
+            buffer.registrar(i, 200, i, i);
+        }
+
+        assertEquals(4, buffer.drenar((endpoint, status, duracao, instante) -> { }, 4));
+        assertEquals(6, buffer.pendentes());
+    }
+
+    @Test
+    void testProdutoresConcorrentes() throws InterruptedException {
+        int produtores = 4;
+        int porProdutor = 10_000;
+        TelemetryRingBuffer buffer = new TelemetryRingBuffer(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(produtores);
+        CountDownLatch fim = new CountDownLatch(produtores);
+
+        for (int p = 0; p < produtores; p++) {
+            int endpoint = p;
+            executor.execute(() -> {
+                for (int i = 0; i < porProdutor; i++) {
+                    while (!buffer.registrar(endpoint, 200, i, i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                fim.countDown();
+            });
+        }
+
+        long[] porEndpoint = new long[produtores];
+        long lidas = 0;
+        while (lidas < (long) produtores * porProdutor) {
+            lidas += buffer.drenar((endpoint, status, duracao, instante) -> porEndpoint[endpoint]++, 256);
+        }
+
+        assertTrue(fim.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+        for (long quantidade : porEndpoint) {
+            assertEquals(porProdutor, quantidade);
+        }
+    }
+}